@@ -0,0 +1,114 @@
+package yirgacheffe.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import yirgacheffe.lang.Array;
+import yirgacheffe.lang.NumArray;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = ArrayQueueBenchmark.ITERATIONS, time = 1)
+@Measurement(iterations = ArrayQueueBenchmark.ITERATIONS, time = 1)
+@Fork(2)
+public class ArrayQueueBenchmark
+{
+	static final int ITERATIONS = 5;
+
+	@Param({"1000000"})
+	private int size;
+
+	@Param({"Array", "NumArray"})
+	private String type;
+
+	private Double[] items;
+
+	@Setup
+	public void createItems()
+	{
+		this.items = new Double[this.size];
+
+		for (int i = 0; i < this.size; i++)
+		{
+			this.items[i] = (double) i;
+		}
+	}
+
+	@Benchmark
+	public double pushThenShift()
+	{
+		Array<Double> queue = this.createArray();
+		double total = 0;
+
+		for (int i = 0; i < this.size; i++)
+		{
+			queue.push(this.items[i]);
+		}
+
+		for (int i = 0; i < this.size; i++)
+		{
+			total += queue.shift();
+		}
+
+		return total;
+	}
+
+	@Benchmark
+	public double pushAndShift()
+	{
+		Array<Double> queue = this.createArray();
+		double total = 0;
+
+		for (int i = 0; i < this.size; i++)
+		{
+			queue.push(this.items[i]);
+			queue.push(this.items[i]);
+
+			total += queue.shift();
+		}
+
+		return total + queue.length();
+	}
+
+	@Benchmark
+	public double unshiftThenPop()
+	{
+		Array<Double> stack = this.createArray();
+		double total = 0;
+
+		for (int i = 0; i < this.size; i++)
+		{
+			stack.unshift(this.items[i]);
+		}
+
+		for (int i = 0; i < this.size; i++)
+		{
+			total += stack.pop();
+		}
+
+		return total;
+	}
+
+	private Array<Double> createArray()
+	{
+		if (this.type.equals("NumArray"))
+		{
+			return new NumArray();
+		}
+		else
+		{
+			return new Array<>();
+		}
+	}
+}
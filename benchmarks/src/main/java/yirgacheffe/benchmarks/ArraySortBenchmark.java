@@ -0,0 +1,84 @@
+package yirgacheffe.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import yirgacheffe.lang.Array;
+import yirgacheffe.lang.NumArray;
+import yirgacheffe.lang.Ordering;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = ArraySortBenchmark.ITERATIONS, time = 1)
+@Measurement(iterations = ArraySortBenchmark.ITERATIONS, time = 1)
+@Fork(2)
+public class ArraySortBenchmark
+{
+	static final int ITERATIONS = 5;
+
+	private static final Ordering<Double> DESCENDING = new Ordering<Double>()
+	{
+		@Override
+		public double compare(Double first, Double second)
+		{
+			return second - first;
+		}
+	};
+
+	@Param({"4000000"})
+	private int size;
+
+	@Param({"Array", "NumArray"})
+	private String type;
+
+	private Array<Double> array;
+
+	@Setup(Level.Invocation)
+	public void createArray()
+	{
+		Random random = new Random(this.size);
+
+		if (this.type.equals("NumArray"))
+		{
+			this.array = new NumArray();
+		}
+		else
+		{
+			this.array = new Array<>();
+		}
+
+		for (int i = 0; i < this.size; i++)
+		{
+			this.array.push(random.nextDouble());
+		}
+	}
+
+	@Benchmark
+	public Array<Double> sort()
+	{
+		this.array.sort();
+
+		return this.array;
+	}
+
+	@Benchmark
+	public Array<Double> sortWithOrdering()
+	{
+		this.array.sort(DESCENDING);
+
+		return this.array;
+	}
+}
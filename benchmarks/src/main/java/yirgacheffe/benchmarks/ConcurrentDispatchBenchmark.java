@@ -0,0 +1,108 @@
+package yirgacheffe.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import yirgacheffe.lang.Bootstrap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = ConcurrentDispatchBenchmark.ITERATIONS, time = 1)
+@Measurement(iterations = ConcurrentDispatchBenchmark.ITERATIONS, time = 1)
+@Fork(2)
+public class ConcurrentDispatchBenchmark
+{
+	static final int ITERATIONS = 5;
+
+	private static final Object[] ARGUMENTS =
+		{"thingy", 1.0, true, 'c', new Exception(), new Object()};
+
+	private MethodHandle describe;
+
+	@State(Scope.Thread)
+	public static class Argument
+	{
+		private int index;
+
+		Object next()
+		{
+			this.index = (this.index + 1) % ARGUMENTS.length;
+
+			return ARGUMENTS[this.index];
+		}
+	}
+
+	@Setup
+	public void link()
+	{
+		Bootstrap.clearCache();
+
+		MethodType type =
+			MethodType.methodType(
+				String.class,
+				ConcurrentDispatchBenchmark.class,
+				Object.class);
+
+		this.describe =
+			Bootstrap.bootstrapPublic(MethodHandles.lookup(), "describe", type)
+				.dynamicInvoker();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String singleThread(Argument argument) throws Throwable
+	{
+		return (String) this.describe.invokeExact(this, argument.next());
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String allThreads(Argument argument) throws Throwable
+	{
+		return (String) this.describe.invokeExact(this, argument.next());
+	}
+
+	public String describe(Object object)
+	{
+		return "object";
+	}
+
+	public String describe(String string)
+	{
+		return "string";
+	}
+
+	public String describe(Double number)
+	{
+		return "number";
+	}
+
+	public String describe(Boolean bool)
+	{
+		return "boolean";
+	}
+
+	public String describe(Character character)
+	{
+		return "character";
+	}
+
+	public String describe(Exception exception)
+	{
+		return "exception";
+	}
+}
@@ -0,0 +1,62 @@
+package yirgacheffe.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import yirgacheffe.lang.Bootstrap;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = DispatchBenchmark.ITERATIONS, time = 1)
+@Measurement(iterations = DispatchBenchmark.ITERATIONS, time = 1)
+@Fork(2)
+public class DispatchBenchmark
+{
+	static final int ITERATIONS = 5;
+
+	private static final int CALLS = 1000;
+
+	@Param({
+		"Monomorphic",
+		"Polymorphic",
+		"Megamorphic",
+		"NullArgument",
+		"GenericParameter",
+		"GeneratedDispatcher"})
+	private String scenario;
+
+	private Object instance;
+
+	private Method run;
+
+	@Setup
+	public void compile() throws Exception
+	{
+		Bootstrap.clearCache();
+
+		Class<?> scenarioClass = new YirgacheffeSource(this.scenario).load();
+
+		this.instance = scenarioClass.getConstructor().newInstance();
+		this.run = scenarioClass.getMethod("run", double.class);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CALLS)
+	public Object dispatch() throws Exception
+	{
+		return this.run.invoke(this.instance, (double) CALLS);
+	}
+}
@@ -0,0 +1,42 @@
+package yirgacheffe.benchmarks;
+
+import yirgacheffe.lang.Array;
+import yirgacheffe.lang.MutableReference;
+
+public class Receiver
+{
+	public double measure(Object value)
+	{
+		return 0;
+	}
+
+	public double measure(String value)
+	{
+		return 1;
+	}
+
+	public double measure(double value)
+	{
+		return 1;
+	}
+
+	public double measure(boolean value)
+	{
+		return 1;
+	}
+
+	public double measure(Exception value)
+	{
+		return 1;
+	}
+
+	public double measure(Array<String> strings)
+	{
+		return 1;
+	}
+
+	public double measure(MutableReference<String> reference)
+	{
+		return 2;
+	}
+}
@@ -0,0 +1,81 @@
+package yirgacheffe.benchmarks;
+
+import yirgacheffe.compiler.CompilationResult;
+import yirgacheffe.compiler.Compiler;
+import yirgacheffe.compiler.type.BytecodeClassLoader;
+import yirgacheffe.compiler.type.Classes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class YirgacheffeSource
+{
+	private static final int BUFFER_SIZE = 4096;
+
+	private String className;
+
+	public YirgacheffeSource(String className)
+	{
+		this.className = className;
+	}
+
+	public Class<?> load() throws IOException, ClassNotFoundException
+	{
+		String sourceFile = this.className + ".yg";
+		Compiler compiler = new Compiler(sourceFile, this.read(sourceFile));
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		if (!result.isSuccessful())
+		{
+			throw new IllegalStateException(
+				"Errors in file " + sourceFile + ":\n" + result.getErrors());
+		}
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add(this.className, result.getBytecode());
+
+		return classLoader.loadClass(this.className);
+	}
+
+	private String read(String sourceFile) throws IOException
+	{
+		InputStream input = this.getClass().getResourceAsStream(sourceFile);
+
+		if (input == null)
+		{
+			throw new IOException("Missing benchmark source " + sourceFile);
+		}
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		try
+		{
+			int read;
+
+			while ((read = input.read(buffer)) != -1)
+			{
+				output.write(buffer, 0, read);
+			}
+		}
+		finally
+		{
+			input.close();
+		}
+
+		return new String(output.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
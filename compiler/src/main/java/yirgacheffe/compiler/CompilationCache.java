@@ -0,0 +1,167 @@
+package yirgacheffe.compiler;
+
+import yirgacheffe.compiler.parallel.GeneratedClass;
+import yirgacheffe.lang.Array;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+public class CompilationCache
+{
+	private Path directory;
+
+	public CompilationCache()
+	{
+	}
+
+	public CompilationCache(String directory) throws IOException
+	{
+		String version = this.getVersion(CompilationCache.class, Array.class);
+
+		this.directory = Files.createDirectories(Paths.get(directory, version));
+	}
+
+	private String getVersion(Class<?>... classes) throws IOException
+	{
+		Set<Path> files = new TreeSet<>();
+		StringBuilder builder = new StringBuilder();
+
+		for (Class<?> type: classes)
+		{
+			try
+			{
+				URL location = type.getProtectionDomain().getCodeSource().getLocation();
+
+				try (Stream<Path> paths = Files.walk(Paths.get(location.toURI())))
+				{
+					Iterator<Path> iterator = paths.iterator();
+
+					while (iterator.hasNext())
+					{
+						files.add(iterator.next());
+					}
+				}
+			}
+			catch (URISyntaxException e)
+			{
+				throw new IOException(e);
+			}
+		}
+
+		for (Path file: files)
+		{
+			if (Files.isRegularFile(file))
+			{
+				builder.append(this.hash(Files.readAllBytes(file)));
+			}
+		}
+
+		return this.hash(builder.toString());
+	}
+
+	public Array<GeneratedClass> get(String key) throws IOException
+	{
+		if (this.directory == null || !Files.exists(this.directory.resolve(key)))
+		{
+			return null;
+		}
+
+		Path path = this.directory.resolve(key);
+		Array<GeneratedClass> classes = new Array<>();
+
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(path)))
+		{
+			int count = in.readInt();
+
+			for (int i = 0; i < count; i++)
+			{
+				String name = in.readUTF();
+				byte[] bytecode = new byte[in.readInt()];
+
+				in.readFully(bytecode);
+
+				classes.push(new GeneratedClass(name, bytecode));
+			}
+		}
+
+		return classes;
+	}
+
+	public void put(String key, Array<GeneratedClass> classes) throws IOException
+	{
+		if (this.directory == null)
+		{
+			return;
+		}
+
+		Path temporary = Files.createTempFile(this.directory, key, ".tmp");
+
+		try (DataOutputStream out =
+			new DataOutputStream(Files.newOutputStream(temporary)))
+		{
+			out.writeInt(classes.length());
+
+			for (GeneratedClass generatedClass: classes)
+			{
+				out.writeUTF(generatedClass.getClassName());
+				out.writeInt(generatedClass.getBytecode().length);
+				out.write(generatedClass.getBytecode());
+			}
+		}
+
+		Files.move(
+			temporary,
+			this.directory.resolve(key),
+			StandardCopyOption.REPLACE_EXISTING,
+			StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public String hash(String text)
+	{
+		return this.hash(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public String hash(Array<Array<GeneratedClass>> classes)
+	{
+		StringBuilder builder = new StringBuilder();
+
+		for (Array<GeneratedClass> generatedClasses: classes)
+		{
+			for (GeneratedClass generatedClass: generatedClasses)
+			{
+				builder.append(this.hash(generatedClass.getBytecode()));
+			}
+		}
+
+		return this.hash(builder.toString());
+	}
+
+	private String hash(byte[] bytes)
+	{
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			return String.format("%064x", new BigInteger(1, digest.digest(bytes)));
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -17,14 +17,18 @@ public class CompilationResult
 
 	private Array<GeneratedClass> generatedClasses;
 
+	private int devirtualisedCallSites;
+
 	public CompilationResult(
 		String classFileName,
 		byte[] bytecode,
-		Array<GeneratedClass> generatedClasses)
+		Array<GeneratedClass> generatedClasses,
+		int devirtualisedCallSites)
 	{
 		this.classFileName = classFileName;
 		this.bytecode = bytecode;
 		this.generatedClasses = generatedClasses;
+		this.devirtualisedCallSites = devirtualisedCallSites;
 	}
 
 	public CompilationResult(String sourceFileName, Array<Error> errors)
@@ -43,6 +47,11 @@ public class CompilationResult
 		return this.generatedClasses;
 	}
 
+	public int getDevirtualisedCallSites()
+	{
+		return this.devirtualisedCallSites;
+	}
+
 	public boolean isSuccessful()
 	{
 		return this.errors == null;
@@ -9,6 +9,7 @@ import yirgacheffe.compiler.listener.BooleanExpressionListener;
 import yirgacheffe.compiler.listener.ClassListener;
 import yirgacheffe.compiler.listener.ConstructorListener;
 import yirgacheffe.compiler.listener.YirgacheffeListener;
+import yirgacheffe.compiler.parallel.GeneratedClass;
 import yirgacheffe.compiler.type.Classes;
 import yirgacheffe.lang.Array;
 import yirgacheffe.parser.YirgacheffeParser;
@@ -35,23 +36,23 @@ public class Compiler
 		this.tree = parser.compilationUnit();
 	}
 
-	public void compileClassDeclaration(Classes classes)
+	public GeneratedClass compileClassDeclaration(Classes classes)
 	{
 		YirgacheffeListener listener = new ClassListener(this.sourceFile, classes);
 
 		this.execute(listener);
 
-		listener.exportDefinedTypes();
+		return listener.exportDefinedTypes();
 	}
 
-	public void compileInterface(Classes classes)
+	public GeneratedClass compileInterface(Classes classes)
 	{
 		YirgacheffeListener listener =
 			new ConstructorListener(this.sourceFile, classes);
 
 		this.execute(listener);
 
-		listener.exportDefinedTypes();
+		return listener.exportDefinedTypes();
 	}
 
 	public CompilationResult compile(Classes classes)
@@ -0,0 +1,150 @@
+package yirgacheffe.compiler;
+
+import yirgacheffe.lang.Array;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+public final class CompilerDaemon
+{
+	private static final int TOKEN_BYTES = 32;
+
+	private ServerSocket server;
+
+	private String token;
+
+	public static void main(String[] args) throws IOException
+	{
+		open(args).serve();
+	}
+
+	public static CompilerDaemon open(String[] args) throws IOException
+	{
+		InetAddress address = InetAddress.getLoopbackAddress();
+		ServerSocket server = new ServerSocket(Integer.parseInt(args[0]), 0, address);
+		Path tokenFile =
+			Paths.get(
+				System.getProperty("user.home"),
+				".yirgacheffe",
+				"daemon-" + server.getLocalPort() + ".token");
+
+		return new CompilerDaemon(server, writeToken(tokenFile));
+	}
+
+	private static String writeToken(Path tokenFile) throws IOException
+	{
+		byte[] bytes = new byte[TOKEN_BYTES];
+
+		new SecureRandom().nextBytes(bytes);
+
+		String token = String.format("%064x", new BigInteger(1, bytes));
+		Path directory =
+			Files.createDirectories(
+				tokenFile.getParent(),
+				PosixFilePermissions.asFileAttribute(
+					PosixFilePermissions.fromString("rwx------")));
+
+		Path temporary =
+			Files.createTempFile(
+				directory,
+				"daemon",
+				".tmp",
+				PosixFilePermissions.asFileAttribute(
+					PosixFilePermissions.fromString("rw-------")));
+
+		Files.write(temporary, token.getBytes(StandardCharsets.UTF_8));
+
+		Files.move(
+			temporary,
+			tokenFile,
+			StandardCopyOption.REPLACE_EXISTING,
+			StandardCopyOption.ATOMIC_MOVE);
+
+		return token;
+	}
+
+	public CompilerDaemon(ServerSocket server, String token)
+	{
+		this.server = server;
+		this.token = token;
+	}
+
+	public int getPort()
+	{
+		return this.server.getLocalPort();
+	}
+
+	public void serve()
+	{
+		while (!this.server.isClosed())
+		{
+			try (Socket socket = this.server.accept())
+			{
+				this.handle(socket);
+			}
+			catch (IOException e)
+			{
+				continue;
+			}
+		}
+	}
+
+	public void close() throws IOException
+	{
+		this.server.close();
+	}
+
+	private void handle(Socket socket) throws IOException
+	{
+		BufferedReader reader =
+			new BufferedReader(
+				new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+		String encoding = StandardCharsets.UTF_8.name();
+		PrintStream errors = new PrintStream(socket.getOutputStream(), true, encoding);
+
+		try
+		{
+			byte[] token = reader.readLine().getBytes(StandardCharsets.UTF_8);
+			byte[] expected = this.token.getBytes(StandardCharsets.UTF_8);
+
+			if (!MessageDigest.isEqual(token, expected))
+			{
+				errors.println("Invalid daemon token.");
+
+				return;
+			}
+
+			String directory = reader.readLine();
+			Array<String> arguments = new Array<>();
+
+			String line = reader.readLine();
+
+			while (line != null && !line.isEmpty())
+			{
+				arguments.push(line);
+				line = reader.readLine();
+			}
+
+			Yirgacheffe.compile(Paths.get(directory), arguments, errors);
+		}
+		catch (Exception | Error e)
+		{
+			errors.println(e);
+		}
+	}
+}
@@ -7,6 +7,12 @@ import yirgacheffe.lang.Array;
 
 public class Result
 {
+	private Result first;
+
+	private Result second;
+
+	private Object item;
+
 	private Array<Error> errors;
 
 	private Array<AbstractInsnNode> instructions;
@@ -15,65 +21,93 @@ public class Result
 
 	public Result()
 	{
-		this.errors = new Array<>();
-		this.instructions = new Array<>();
-		this.tryCatchBlocks = new Array<>();
 	}
 
-	private Result(
-		Array<Error> errors,
-		Array<AbstractInsnNode> instructions,
-		Array<TryCatchBlockNode> tryCatchBlocks)
+	private Result(Object item)
 	{
-		this.errors = errors;
-		this.instructions = instructions;
-		this.tryCatchBlocks = tryCatchBlocks;
+		this.item = item;
+	}
+
+	private Result(Result first, Result second)
+	{
+		this.first = first;
+		this.second = second;
 	}
 
 	public Result add(Error error)
 	{
-		return new Result(
-			this.errors.concat(new Array<>(error)),
-			this.instructions,
-			this.tryCatchBlocks);
+		return new Result(this, new Result(error));
 	}
 
 	public Result add(AbstractInsnNode instruction)
 	{
-		return new Result(
-			this.errors,
-			this.instructions.concat(new Array<>(instruction)),
-			this.tryCatchBlocks);
+		return new Result(this, new Result(instruction));
 	}
 
 	public Result add(TryCatchBlockNode tryCatchBlock)
 	{
-		return new Result(
-			this.errors,
-			this.instructions,
-			this.tryCatchBlocks.concat(new Array<>(tryCatchBlock)));
+		return new Result(this, new Result(tryCatchBlock));
 	}
 
 	public Result concat(Result other)
 	{
-		return new Result(
-			this.errors.concat(other.errors),
-			this.instructions.concat(other.instructions),
-			this.tryCatchBlocks.concat(other.tryCatchBlocks));
+		return new Result(this, other);
 	}
 
 	public Array<Error> getErrors()
 	{
-		return this.errors;
+		return this.flatten().errors;
 	}
 
 	public Array<AbstractInsnNode> getInstructions()
 	{
-		return this.instructions;
+		return this.flatten().instructions;
 	}
 
 	public Array<TryCatchBlockNode> getTryCatchBlocks()
 	{
-		return this.tryCatchBlocks;
+		return this.flatten().tryCatchBlocks;
+	}
+
+	private Result flatten()
+	{
+		if (this.errors != null)
+		{
+			return this;
+		}
+
+		Array<Error> errors = new Array<>();
+		Array<AbstractInsnNode> instructions = new Array<>();
+		Array<TryCatchBlockNode> tryCatchBlocks = new Array<>();
+		Array<Result> stack = new Array<>(this);
+
+		while (stack.length() > 0)
+		{
+			Result result = stack.pop();
+
+			if (result.first != null)
+			{
+				stack.push(result.second);
+				stack.push(result.first);
+			}
+			else if (result.item instanceof Error)
+			{
+				errors.push((Error) result.item);
+			}
+			else if (result.item instanceof AbstractInsnNode)
+			{
+				instructions.push((AbstractInsnNode) result.item);
+			}
+			else if (result.item instanceof TryCatchBlockNode)
+			{
+				tryCatchBlocks.push((TryCatchBlockNode) result.item);
+			}
+		}
+
+		this.errors = errors;
+		this.instructions = instructions;
+		this.tryCatchBlocks = tryCatchBlocks;
+
+		return this;
 	}
 }
@@ -5,81 +5,292 @@ import yirgacheffe.compiler.type.Classes;
 import yirgacheffe.lang.Array;
 
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 public final class Yirgacheffe
 {
+	private Path directory;
+
 	private Array<String> sourceFiles;
 
+	private CompilationCache cache;
+
+	private boolean report;
+
+	private PrintStream errors;
+
+	private Array<String> sources = new Array<>();
+
+	private Map<String, Compiler> compilers = new ConcurrentHashMap<>();
+
+	private Classes classes;
+
 	public static void main(String[] args) throws IOException
 	{
-		new Yirgacheffe(new Array<>(args)).execute();
+		compile(Paths.get("."), new Array<>(args), System.err);
+	}
+
+	public static void compile(
+		Path directory,
+		Array<String> arguments,
+		PrintStream errors)
+		throws IOException
+	{
+		Array<String> sourceFiles = new Array<>(arguments);
+		CompilationCache cache = new CompilationCache();
+		boolean report = false;
+
+		if (sourceFiles.indexOf("--report") == 0)
+		{
+			sourceFiles.shift();
+			report = true;
+		}
+
+		if (sourceFiles.indexOf("--cache") == 0)
+		{
+			sourceFiles.shift();
+			Path cacheDirectory = directory.resolve(sourceFiles.shift());
+
+			cache = new CompilationCache(cacheDirectory.toString());
+		}
+
+		new Yirgacheffe(directory, sourceFiles, cache, report, errors).execute();
 	}
 
-	private Yirgacheffe(Array<String> sourceFiles)
+	private Yirgacheffe(
+		Path directory,
+		Array<String> sourceFiles,
+		CompilationCache cache,
+		boolean report,
+		PrintStream errors)
 	{
+		this.directory = directory;
 		this.sourceFiles = sourceFiles;
+		this.cache = cache;
+		this.report = report;
+		this.errors = errors;
+		this.classes = new Classes(directory);
 	}
 
 	private void execute() throws IOException
 	{
-		Classes classes = new Classes();
-		Array<Compiler> compilers = new Array<>();
-
 		for (String sourceFile : this.sourceFiles)
 		{
-			byte[] encoded = Files.readAllBytes(Paths.get(sourceFile));
-			String source = new String(encoded, StandardCharsets.UTF_8);
-			Compiler compiler = new Compiler(sourceFile, source);
+			byte[] encoded = Files.readAllBytes(this.directory.resolve(sourceFile));
 
-			compilers.push(compiler);
+			this.sources.push(new String(encoded, StandardCharsets.UTF_8));
 		}
 
-		for (Compiler compiler: compilers)
-		{
-			compiler.compileClassDeclaration(classes);
-		}
+		Array<Array<GeneratedClass>> declarations = this.exportTypes("declaration", "");
 
-		classes.clearCache();
+		this.classes.clearCache();
 
-		for (Compiler compiler: compilers)
-		{
-			compiler.compileInterface(classes);
-		}
+		Array<Array<GeneratedClass>> interfaces =
+			this.exportTypes("interface", this.cache.hash(declarations));
 
-		classes.clearCache();
+		this.classes.clearCache();
 
-		Array<CompilationResult> results = new Array<>();
+		Array<CompilationResult> results = this.compile(this.cache.hash(interfaces));
 
-		for (Compiler compiler: compilers)
+		for (int i = 0; i < results.length(); i++)
 		{
-			results.push(compiler.compile(classes));
-		}
+			CompilationResult result = results.get(i);
 
-		for (CompilationResult result: results)
-		{
 			if (result.isSuccessful())
 			{
-				Path path = Paths.get(result.getClassFileName());
+				if (this.report)
+				{
+					this.errors.println(
+						this.sourceFiles.get(i) + ": " +
+						result.getDevirtualisedCallSites() + " devirtualised call sites");
+				}
+
+				Path path = this.directory.resolve(result.getClassFileName());
 
 				Files.write(path, result.getBytecode());
 
 				for (GeneratedClass generatedClass: result.getGeneratedClasses())
 				{
 					Path generatedPath =
-						Paths.get(generatedClass.getClassName() + ".class");
+						this.directory.resolve(generatedClass.getClassName() + ".class");
 
 					Files.write(generatedPath, generatedClass.getBytecode());
 				}
 			}
 			else
 			{
-				System.err.println("Errors in file " + result.getSourceFileName() + ":");
-				System.err.print(result.getErrors());
+				this.errors.println("Errors in file " + result.getSourceFileName() + ":");
+				this.errors.print(result.getErrors());
 			}
 		}
 	}
+
+	private Array<Array<GeneratedClass>> exportTypes(
+		final String pass,
+		final String signature)
+	{
+		List<Callable<Array<GeneratedClass>>> exports = new ArrayList<>();
+
+		for (int i = 0; i < this.sourceFiles.length(); i++)
+		{
+			final String sourceFile = this.sourceFiles.get(i);
+			final String source = this.sources.get(i);
+
+			exports.add(new Callable<Array<GeneratedClass>>()
+			{
+				@Override
+				public Array<GeneratedClass> call() throws IOException
+				{
+					CompilationCache cache = Yirgacheffe.this.cache;
+					String key =
+						pass + "-" + cache.hash(signature + sourceFile + "\n" + source);
+					Array<GeneratedClass> types = cache.get(key);
+
+					if (types == null)
+					{
+						GeneratedClass type =
+							Yirgacheffe.this.export(sourceFile, source, pass);
+
+						types = new Array<>(type);
+
+						cache.put(key, types);
+					}
+					else
+					{
+						for (GeneratedClass type: types)
+						{
+							Yirgacheffe.this.classes.addClass(
+								type.getClassName().replace("/", "."),
+								type.getBytecode());
+						}
+					}
+
+					return types;
+				}
+			});
+		}
+
+		return this.invokeAll(exports);
+	}
+
+	private GeneratedClass export(String sourceFile, String source, String pass)
+	{
+		Compiler compiler = this.parse(sourceFile, source);
+
+		if (pass.equals("declaration"))
+		{
+			return compiler.compileClassDeclaration(this.classes);
+		}
+		else
+		{
+			return compiler.compileInterface(this.classes);
+		}
+	}
+
+	private Array<CompilationResult> compile(final String signature)
+	{
+		List<Callable<CompilationResult>> compilations = new ArrayList<>();
+
+		for (int i = 0; i < this.sourceFiles.length(); i++)
+		{
+			final String sourceFile = this.sourceFiles.get(i);
+			final String source = this.sources.get(i);
+
+			compilations.add(new Callable<CompilationResult>()
+			{
+				@Override
+				public CompilationResult call() throws IOException
+				{
+					CompilationCache cache = Yirgacheffe.this.cache;
+					String key =
+						"class-" + cache.hash(signature + sourceFile + "\n" + source);
+					Array<GeneratedClass> classFiles =
+						Yirgacheffe.this.report ? null : cache.get(key);
+
+					if (classFiles == null)
+					{
+						CompilationResult result =
+							Yirgacheffe.this.parse(sourceFile, source).compile(
+								Yirgacheffe.this.classes);
+
+						if (result.isSuccessful())
+						{
+							classFiles =
+								new Array<>(
+									new GeneratedClass(
+										result.getClassFileName(),
+										result.getBytecode()));
+
+							classFiles.push(result.getGeneratedClasses());
+							cache.put(key, classFiles);
+						}
+
+						return result;
+					}
+					else
+					{
+						GeneratedClass classFile = classFiles.shift();
+
+						return new CompilationResult(
+							classFile.getClassName(),
+							classFile.getBytecode(),
+							classFiles,
+							0);
+					}
+				}
+			});
+		}
+
+		return this.invokeAll(compilations);
+	}
+
+	private Compiler parse(String sourceFile, final String source)
+	{
+		Function<String, Compiler> parser = new Function<String, Compiler>()
+		{
+			@Override
+			public Compiler apply(String sourceFile)
+			{
+				return new Compiler(sourceFile, source);
+			}
+		};
+
+		return this.compilers.computeIfAbsent(sourceFile, parser);
+	}
+
+	private <T> Array<T> invokeAll(List<Callable<T>> tasks)
+	{
+		Array<T> results = new Array<>();
+
+		try
+		{
+			for (Future<T> future: ForkJoinPool.commonPool().invokeAll(tasks))
+			{
+				results.push(future.get());
+			}
+		}
+		catch (ExecutionException e)
+		{
+			throw new IllegalStateException(e.getCause());
+		}
+		catch (InterruptedException e)
+		{
+			throw new IllegalStateException(e);
+		}
+
+		return results;
+	}
 }
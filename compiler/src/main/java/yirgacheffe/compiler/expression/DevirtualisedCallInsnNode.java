@@ -0,0 +1,12 @@
+package yirgacheffe.compiler.expression;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.MethodInsnNode;
+
+public class DevirtualisedCallInsnNode extends MethodInsnNode
+{
+	public DevirtualisedCallInsnNode(String owner, String name, String descriptor)
+	{
+		super(Opcodes.INVOKEVIRTUAL, owner, name, descriptor, false);
+	}
+}
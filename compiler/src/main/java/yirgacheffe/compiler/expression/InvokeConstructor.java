@@ -15,10 +15,21 @@ import yirgacheffe.compiler.type.Type;
 import yirgacheffe.compiler.variables.Variables;
 import yirgacheffe.lang.Array;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class InvokeConstructor implements Expression
 {
+	private static Map<String, String> primitiveArrays = new HashMap<>();
+
+	static
+	{
+		primitiveArrays.put("D", "yirgacheffe/lang/NumArray");
+		primitiveArrays.put("Z", "yirgacheffe/lang/BoolArray");
+		primitiveArrays.put("C", "yirgacheffe/lang/CharArray");
+	}
+
 	private Coordinate coordinate;
 
 	private Type owner;
@@ -64,15 +75,24 @@ public class InvokeConstructor implements Expression
 		String descriptor =
 			"(" + arguments.getDescriptor(parameterTypes) + ")V";
 
+		String constructedType = this.getConstructedType();
+
+		if (!constructedType.equals(this.owner.toFullyQualifiedType()))
+		{
+			String elementType = this.owner.getTypeParameter("T").toJVMType();
+
+			descriptor = descriptor.replace("[Ljava/lang/Object;", "[" + elementType);
+		}
+
 		Result result = new Result()
 			.concat(this.owner.construct(this.coordinate))
-			.add(new TypeInsnNode(Opcodes.NEW, this.owner.toFullyQualifiedType()))
+			.add(new TypeInsnNode(Opcodes.NEW, constructedType))
 			.add(new InsnNode(Opcodes.DUP))
 			.concat(matchResult.compileArguments(variables))
 			.concat(this.coordinate.compile())
 			.add(new MethodInsnNode(
 				Opcodes.INVOKESPECIAL,
-				this.owner.toFullyQualifiedType(),
+				constructedType,
 				"<init>",
 				descriptor,
 				false))
@@ -83,6 +103,23 @@ public class InvokeConstructor implements Expression
 		return result;
 	}
 
+	private String getConstructedType()
+	{
+		String type = this.owner.toFullyQualifiedType();
+
+		if (type.equals("yirgacheffe/lang/Array"))
+		{
+			String elementType = this.owner.getTypeParameter("T").toJVMType();
+
+			if (primitiveArrays.containsKey(elementType))
+			{
+				return primitiveArrays.get(elementType);
+			}
+		}
+
+		return type;
+	}
+
 	private Result cacheSignature()
 	{
 		if (this.owner.hasParameter())
@@ -12,8 +12,6 @@ import yirgacheffe.compiler.type.Type;
 import yirgacheffe.compiler.variables.Variables;
 import yirgacheffe.lang.Array;
 
-import java.util.Set;
-
 public class InvokeInterfaceConstructor implements Expression
 {
 	private Coordinate coordinate;
@@ -79,18 +77,7 @@ public class InvokeInterfaceConstructor implements Expression
 
 	private Array<Function> getMethods()
 	{
-		Array<Function> constructorMethods = new Array<>();
-		Set<Function> methods = this.owner.reflect().getMethods();
-
-		for (Function method: methods)
-		{
-			if (method.isNamed("0this"))
-			{
-				constructorMethods.push(method);
-			}
-		}
-
-		return constructorMethods;
+		return new Array<>(this.owner.reflect().getMethodsNamed("0this"));
 	}
 
 	public Result compileCondition(Variables variables, Label trueLabel, Label falseLabel)
@@ -3,6 +3,7 @@ package yirgacheffe.compiler.expression;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnNode;
 import org.objectweb.asm.tree.InvokeDynamicInsnNode;
 import org.objectweb.asm.tree.LdcInsnNode;
@@ -15,6 +16,7 @@ import yirgacheffe.compiler.function.FailedMatchResult;
 import yirgacheffe.compiler.function.Function;
 import yirgacheffe.compiler.function.LengthMethods;
 import yirgacheffe.compiler.function.MatchResult;
+import yirgacheffe.compiler.generated.DispatcherMethod;
 import yirgacheffe.compiler.member.Interface;
 import yirgacheffe.compiler.statement.TailCall;
 import yirgacheffe.compiler.type.GenericType;
@@ -31,6 +33,7 @@ import yirgacheffe.lang.Bootstrap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.HashSet;
 import java.util.Set;
 
 public class InvokeMethod implements Expression, Parameterisable
@@ -65,20 +68,17 @@ public class InvokeMethod implements Expression, Parameterisable
 	{
 		Type ownerType = this.owner.getType(variables);
 		Interface members = ownerType.reflect();
-		Set<Function> methods = members.getMethods();
+		Set<Function> methods = members.getMethodsNamed(this.name);
 		Type returnType = new NullType();
 
 		for (Function method: methods)
 		{
-			if (method.getName().equals(this.name))
+			if (this.lengthMethods.contains(method))
 			{
-				if (this.lengthMethods.contains(method))
-				{
-					return PrimitiveType.INT;
-				}
-
-				returnType = this.caller.lookup(method.getReturnType());
+				return PrimitiveType.INT;
 			}
+
+			returnType = this.caller.lookup(method.getReturnType());
 		}
 
 		if (returnType.equals(PrimitiveType.INT) ||
@@ -146,24 +146,60 @@ public class InvokeMethod implements Expression, Parameterisable
 
 		String ownerDescriptor = owner.toFullyQualifiedType();
 		Array<Type> parameterTypes = matchResult.getParameterTypes();
+		Type returnType = matchResult.getReturnType();
+		String argumentDescriptor = arguments.getDescriptor(parameterTypes);
+		AbstractInsnNode invocation;
 
 		String descriptor =
-			'(' + (ownerDescriptor.charAt(0) != '[' ? 'L' +
-			ownerDescriptor + ';' : ownerDescriptor) +
-			arguments.getDescriptor(parameterTypes) + ')' +
-			matchResult.getReturnType().toJVMType();
+			'(' + argumentDescriptor + ')' + returnType.toJVMType();
 
-		Type returnType = matchResult.getReturnType();
+		if (this.isMonomorphic(namedMethods, variables))
+		{
+			invocation =
+				new DevirtualisedCallInsnNode(
+					ownerDescriptor,
+					matchResult.getName(),
+					descriptor);
+		}
+		else if (this.owner instanceof This)
+		{
+			DispatcherMethod dispatcher =
+				new DispatcherMethod(owner, this.name, this.arguments.length());
+
+			if (dispatcher.isApplicable(argumentDescriptor, returnType))
+			{
+				invocation =
+					new MethodInsnNode(
+						Opcodes.INVOKEVIRTUAL,
+						ownerDescriptor,
+						dispatcher.getName(),
+						dispatcher.getDescriptor(),
+						false);
+			}
+			else
+			{
+				invocation =
+					new InvokeDynamicInsnNode(
+						matchResult.getName(),
+						this.getDynamicDescriptor(ownerDescriptor, descriptor),
+						bootstrapMethod);
+			}
+		}
+		else
+		{
+			invocation =
+				new InvokeDynamicInsnNode(
+					matchResult.getName(),
+					this.getDynamicDescriptor(ownerDescriptor, descriptor),
+					bootstrapMethod);
+		}
 
 		Result result = new Result()
 			.concat(this.owner.compile(variables))
 			.concat(owner.convertTo(new ReferenceType(Object.class)))
 			.concat(matchResult.compileArguments(variables))
 			.concat(this.coordinate.compile())
-			.add(new InvokeDynamicInsnNode(
-				matchResult.getName(),
-				descriptor,
-				bootstrapMethod))
+			.add(invocation)
 			.concat(this.cacheSignature(returnType))
 			.concat(returnType.convertTo(this.getType(variables)));
 
@@ -173,6 +209,48 @@ public class InvokeMethod implements Expression, Parameterisable
 		return result;
 	}
 
+	private String getDynamicDescriptor(String ownerDescriptor, String descriptor)
+	{
+		String receiver =
+			ownerDescriptor.charAt(0) == '[' ?
+				ownerDescriptor :
+				'L' + ownerDescriptor + ';';
+
+		return '(' + receiver + descriptor.substring(1);
+	}
+
+	private boolean isMonomorphic(Array<Function> namedMethods, Variables variables)
+	{
+		if (!(this.owner instanceof This))
+		{
+			return false;
+		}
+
+		for (Type argumentType: this.getParameters(variables))
+		{
+			if (!argumentType.isPrimitive())
+			{
+				return false;
+			}
+		}
+
+		int candidates = 0;
+
+		for (Function function: namedMethods)
+		{
+			if (function.hasVariableArguments())
+			{
+				return false;
+			}
+			else if (function.getParameterTypes().length() == this.arguments.length())
+			{
+				candidates++;
+			}
+		}
+
+		return candidates == 1;
+	}
+
 	private Result cacheSignature(Type returnType)
 	{
 		if (returnType.hasParameter())
@@ -218,24 +296,14 @@ public class InvokeMethod implements Expression, Parameterisable
 	public Array<Function> getMethodsNamed(Type owner, String name)
 	{
 		Interface methods = owner.reflect();
-		Set<Function> methodSet = methods.getPublicMethods();
+		Set<Function> methodSet = new HashSet<>(methods.getPublicMethodsNamed(name));
 
 		if (this.caller.equals(owner))
 		{
-			methodSet.addAll(methods.getMethods());
-		}
-
-		Array<Function> namedMethods = new Array<>();
-
-		for (Function method: methodSet)
-		{
-			if (method.isNamed(name))
-			{
-				namedMethods.push(method);
-			}
+			methodSet.addAll(methods.getMethodsNamed(name));
 		}
 
-		return namedMethods;
+		return new Array<>(methodSet);
 	}
 
 	public Result compileCondition(Variables variables, Label trueLabel, Label falseLabel)
@@ -2,11 +2,10 @@ package yirgacheffe.compiler.generated;
 
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.MethodNode;
-import yirgacheffe.compiler.function.Function;
+import yirgacheffe.compiler.member.Interface;
+import yirgacheffe.compiler.member.Property;
 import yirgacheffe.compiler.type.Type;
 
-import java.util.Set;
-
 public class DefaultConstructor
 {
 	private String className;
@@ -38,18 +37,20 @@ public class DefaultConstructor
 			"()V",
 			false);
 
-		Set<Function> methods = owner.reflect().getMethods();
+		Interface members = owner.reflect();
 
-		for (Function method: methods)
+		for (Property field: members.getFields())
 		{
-			if (method.getName().startsWith("0init_field"))
+			String initialiser = "0init_field_" + field.getName();
+
+			if (!members.getMethodsNamed(initialiser).isEmpty())
 			{
 				methodNode.visitVarInsn(Opcodes.ALOAD, 0);
 
 				methodNode.visitMethodInsn(
 					Opcodes.INVOKEVIRTUAL,
 					this.className,
-					method.getName(),
+					initialiser,
 					"()V",
 					false);
 			}
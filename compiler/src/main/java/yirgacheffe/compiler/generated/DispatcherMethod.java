@@ -0,0 +1,407 @@
+package yirgacheffe.compiler.generated;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.MethodNode;
+import yirgacheffe.compiler.function.Function;
+import yirgacheffe.compiler.member.Interface;
+import yirgacheffe.compiler.type.Type;
+import yirgacheffe.lang.Array;
+import yirgacheffe.lang.Bootstrap;
+import yirgacheffe.lang.Ordering;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class DispatcherMethod
+{
+	private static Map<Class<?>, Class<?>> boxedTypes = new HashMap<>();
+
+	static
+	{
+		boxedTypes.put(boolean.class, Boolean.class);
+		boxedTypes.put(char.class, Character.class);
+		boxedTypes.put(int.class, Integer.class);
+		boxedTypes.put(long.class, Long.class);
+		boxedTypes.put(double.class, Double.class);
+	}
+
+	private static Set<Class<?>> numberTypes = new LinkedHashSet<>();
+
+	static
+	{
+		numberTypes.add(int.class);
+		numberTypes.add(long.class);
+		numberTypes.add(double.class);
+	}
+
+	private Type owner;
+
+	private String name;
+
+	private int arity;
+
+	private Array<Function> methods = new Array<>();
+
+	public DispatcherMethod(Type owner, String name, int arity)
+	{
+		this.owner = owner;
+		this.name = name;
+		this.arity = arity;
+
+		Interface members = owner.reflect();
+		Set<Function> methodSet = new HashSet<>();
+		Map<String, Function> sortedMethods = new TreeMap<>();
+
+		methodSet.addAll(members.getPublicMethodsNamed(name, arity));
+
+		methodSet.addAll(members.getMethodsNamed(name, arity));
+
+		for (Function method: methodSet)
+		{
+			sortedMethods.put(method.getDescriptor(), method);
+		}
+
+		for (Function method: sortedMethods.values())
+		{
+			this.methods.push(method);
+		}
+
+		Map<Function, Integer> generality = new HashMap<>();
+
+		for (Function method: this.methods)
+		{
+			int count = 0;
+
+			for (Function other: this.methods)
+			{
+				if (this.isMoreSpecific(method, other))
+				{
+					count++;
+				}
+			}
+
+			generality.put(method, count);
+		}
+
+		this.methods.sort(new Ordering<Function>()
+		{
+			@Override
+			public double compare(Function first, Function second)
+			{
+				return generality.get(second) - generality.get(first);
+			}
+		});
+	}
+
+	public String getName()
+	{
+		return "0dispatch_" + this.name;
+	}
+
+	public String getDescriptor()
+	{
+		StringBuilder descriptor = new StringBuilder("(");
+
+		for (int i = 0; i < this.arity; i++)
+		{
+			descriptor.append("Ljava/lang/Object;");
+		}
+
+		descriptor.append(")");
+
+		return descriptor + this.methods.get(0).getReturnType().toJVMType();
+	}
+
+	public boolean isApplicable(String argumentDescriptor, Type returnType)
+	{
+		if (this.methods.length() < 2)
+		{
+			return false;
+		}
+
+		org.objectweb.asm.Type[] argumentTypes =
+			org.objectweb.asm.Type.getArgumentTypes("(" + argumentDescriptor + ")V");
+
+		for (org.objectweb.asm.Type argumentType: argumentTypes)
+		{
+			if (argumentType.getSort() < org.objectweb.asm.Type.ARRAY)
+			{
+				return false;
+			}
+		}
+
+		Set<String> exactTypes = new HashSet<>();
+
+		for (Function method: this.methods)
+		{
+			String methodTypes = this.getExactTypes(method);
+
+			if (methodTypes == null ||
+				method.hasVariableArguments() ||
+				method.isStatic() ||
+				!method.getReturnType().toJVMType().equals(returnType.toJVMType()) ||
+				!exactTypes.add(methodTypes))
+			{
+				return false;
+			}
+		}
+
+		for (Function first: this.methods)
+		{
+			for (Function second: this.methods)
+			{
+				if (this.overlaps(first, second) &&
+					!this.isMoreSpecific(first, second) &&
+					!this.isMoreSpecific(second, first))
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isMoreSpecific(Function method, Function other)
+	{
+		Array<java.lang.reflect.Type> parameters = method.getGenericParameterTypes();
+		Array<java.lang.reflect.Type> otherParameters = other.getGenericParameterTypes();
+
+		for (int i = 0; i < parameters.length(); i++)
+		{
+			Class<?> parameter = this.getExactType(parameters.get(i));
+			Class<?> otherParameter = this.getExactType(otherParameters.get(i));
+
+			if (parameter == null ||
+				otherParameter == null ||
+				!otherParameter.isAssignableFrom(parameter))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean overlaps(Function method, Function other)
+	{
+		Array<java.lang.reflect.Type> parameters = method.getGenericParameterTypes();
+		Array<java.lang.reflect.Type> otherParameters = other.getGenericParameterTypes();
+
+		for (int i = 0; i < parameters.length(); i++)
+		{
+			Class<?> parameter = this.getExactType(parameters.get(i));
+			Class<?> otherParameter = this.getExactType(otherParameters.get(i));
+
+			if (!parameter.isInterface() &&
+				!otherParameter.isInterface() &&
+				!parameter.isAssignableFrom(otherParameter) &&
+				!otherParameter.isAssignableFrom(parameter))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private String getExactTypes(Function method)
+	{
+		StringBuilder exactTypes = new StringBuilder();
+
+		for (java.lang.reflect.Type parameter: method.getGenericParameterTypes())
+		{
+			Class<?> exactType = this.getExactType(parameter);
+
+			if (exactType == null)
+			{
+				return null;
+			}
+
+			exactTypes.append(exactType.getName());
+			exactTypes.append(';');
+		}
+
+		return exactTypes.toString();
+	}
+
+	private Class<?> getExactType(java.lang.reflect.Type parameter)
+	{
+		if (!(parameter instanceof Class))
+		{
+			return null;
+		}
+		else if (((Class<?>) parameter).isPrimitive())
+		{
+			return boxedTypes.get(parameter);
+		}
+		else
+		{
+			return (Class<?>) parameter;
+		}
+	}
+
+	public MethodNode generate()
+	{
+		String descriptor = this.getDescriptor();
+
+		MethodNode methodNode =
+			new MethodNode(
+				Opcodes.ACC_PROTECTED | Opcodes.ACC_SYNTHETIC,
+				this.getName(),
+				descriptor,
+				null,
+				null);
+
+		Label fallback = new Label();
+
+		for (int i = 1; i <= this.arity; i++)
+		{
+			methodNode.visitVarInsn(Opcodes.ALOAD, i);
+			methodNode.visitJumpInsn(Opcodes.IFNULL, fallback);
+		}
+
+		for (int i = 0; i < this.arity; i++)
+		{
+			for (Class<?> widenedType: this.getWidenedTypes(i))
+			{
+				methodNode.visitVarInsn(Opcodes.ALOAD, i + 1);
+
+				methodNode.visitTypeInsn(
+					Opcodes.INSTANCEOF,
+					org.objectweb.asm.Type.getInternalName(widenedType));
+
+				methodNode.visitJumpInsn(Opcodes.IFNE, fallback);
+			}
+		}
+
+		for (Function method: this.methods)
+		{
+			this.dispatch(methodNode, method);
+		}
+
+		methodNode.visitLabel(fallback);
+
+		for (int i = 0; i <= this.arity; i++)
+		{
+			methodNode.visitVarInsn(Opcodes.ALOAD, i);
+		}
+
+		MethodType methodType =
+			MethodType.methodType(
+				CallSite.class,
+				MethodHandles.Lookup.class,
+				String.class,
+				MethodType.class);
+
+		Handle bootstrapMethod =
+			new Handle(
+				Opcodes.H_INVOKESTATIC,
+				Bootstrap.class.getName().replace(".", "/"),
+				"bootstrapPrivate",
+				methodType.toMethodDescriptorString(),
+				false);
+
+		methodNode.visitInvokeDynamicInsn(
+			this.name,
+			"(" + this.owner.toJVMType() + descriptor.substring(1),
+			bootstrapMethod);
+
+		methodNode.visitInsn(
+			this.methods.get(0).getReturnType().getReturnInstruction());
+
+		return methodNode;
+	}
+
+	private Array<Class<?>> getWidenedTypes(int index)
+	{
+		Set<java.lang.reflect.Type> parameters = new HashSet<>();
+		Set<Class<?>> exactTypes = new HashSet<>();
+		Array<Class<?>> widenedTypes = new Array<>();
+
+		for (Function method: this.methods)
+		{
+			java.lang.reflect.Type parameter =
+				method.getGenericParameterTypes().get(index);
+
+			parameters.add(parameter);
+			exactTypes.add(this.getExactType(parameter));
+		}
+
+		for (Class<?> numberType: numberTypes)
+		{
+			Class<?> boxedType = boxedTypes.get(numberType);
+
+			if (!Collections.disjoint(parameters, numberTypes) &&
+				!exactTypes.contains(boxedType))
+			{
+				widenedTypes.push(boxedType);
+			}
+		}
+
+		return widenedTypes;
+	}
+
+	private void dispatch(MethodNode methodNode, Function method)
+	{
+		Array<java.lang.reflect.Type> parameters = method.getGenericParameterTypes();
+		Label next = new Label();
+
+		for (int i = 0; i < parameters.length(); i++)
+		{
+			Class<?> exactType = this.getExactType(parameters.get(i));
+
+			methodNode.visitVarInsn(Opcodes.ALOAD, i + 1);
+
+			methodNode.visitTypeInsn(
+				Opcodes.INSTANCEOF,
+				org.objectweb.asm.Type.getInternalName(exactType));
+
+			methodNode.visitJumpInsn(Opcodes.IFEQ, next);
+		}
+
+		methodNode.visitVarInsn(Opcodes.ALOAD, 0);
+
+		for (int i = 0; i < parameters.length(); i++)
+		{
+			Class<?> parameter = (Class<?>) parameters.get(i);
+			Class<?> exactType = this.getExactType(parameter);
+
+			methodNode.visitVarInsn(Opcodes.ALOAD, i + 1);
+
+			methodNode.visitTypeInsn(
+				Opcodes.CHECKCAST,
+				org.objectweb.asm.Type.getInternalName(exactType));
+
+			if (parameter.isPrimitive())
+			{
+				methodNode.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					org.objectweb.asm.Type.getInternalName(exactType),
+					parameter.getName() + "Value",
+					"()" + org.objectweb.asm.Type.getDescriptor(parameter),
+					false);
+			}
+		}
+
+		methodNode.visitMethodInsn(
+			Opcodes.INVOKEVIRTUAL,
+			this.owner.toFullyQualifiedType(),
+			method.getName(),
+			method.getDescriptor(),
+			false);
+
+		methodNode.visitInsn(method.getReturnType().getReturnInstruction());
+		methodNode.visitLabel(next);
+	}
+}
@@ -0,0 +1,16 @@
+package yirgacheffe.compiler.instructions;
+
+import org.objectweb.asm.Opcodes;
+
+public class BooleanInstructions extends IntegerInstructions
+{
+	public int getArrayStore()
+	{
+		return Opcodes.BASTORE;
+	}
+
+	public int getType()
+	{
+		return Opcodes.T_BOOLEAN;
+	}
+}
@@ -0,0 +1,16 @@
+package yirgacheffe.compiler.instructions;
+
+import org.objectweb.asm.Opcodes;
+
+public class CharacterInstructions extends IntegerInstructions
+{
+	public int getArrayStore()
+	{
+		return Opcodes.CASTORE;
+	}
+
+	public int getType()
+	{
+		return Opcodes.T_CHAR;
+	}
+}
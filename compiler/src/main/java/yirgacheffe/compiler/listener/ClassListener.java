@@ -5,6 +5,7 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
 import org.objectweb.asm.tree.MethodNode;
 import yirgacheffe.compiler.Result;
 import yirgacheffe.compiler.error.Error;
@@ -28,6 +29,7 @@ import yirgacheffe.compiler.type.VariableType;
 import yirgacheffe.compiler.variables.LocalVariables;
 import yirgacheffe.compiler.generated.DefaultConstructor;
 import yirgacheffe.compiler.generated.DelegationMethod;
+import yirgacheffe.compiler.generated.DispatcherMethod;
 import yirgacheffe.compiler.generated.EnumerationInitialiser;
 import yirgacheffe.compiler.generated.MainMethod;
 import yirgacheffe.lang.Array;
@@ -38,6 +40,7 @@ import yirgacheffe.parser.YirgacheffeParser;
 import java.lang.reflect.TypeVariable;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -55,6 +58,8 @@ public class ClassListener extends PackageListener
 
 	protected Array<Type> interfaces = new Array<>();
 
+	protected Array<MethodNode> parallelMethods = new Array<>();
+
 	protected Map<String, BoundedType> typeParameters = new HashMap<>();
 
 	protected Type thisType = new NullType();
@@ -267,6 +272,41 @@ public class ClassListener extends PackageListener
 		}
 
 		this.checkInterfaceMethodImplementations(context);
+		this.generateDispatchers();
+	}
+
+	private void generateDispatchers()
+	{
+		Map<String, MethodInsnNode> dispatchers = new LinkedHashMap<>();
+		Array<MethodNode> methods = new Array<>(this.classNode.methods);
+
+		methods.push(this.parallelMethods);
+
+		for (MethodNode method: methods)
+		{
+			for (AbstractInsnNode instruction: method.instructions)
+			{
+				if (instruction instanceof MethodInsnNode)
+				{
+					MethodInsnNode invocation = (MethodInsnNode) instruction;
+
+					if (invocation.owner.equals(this.className) &&
+						invocation.name.startsWith("0dispatch_"))
+					{
+						dispatchers.put(invocation.name + invocation.desc, invocation);
+					}
+				}
+			}
+		}
+
+		for (MethodInsnNode invocation: dispatchers.values())
+		{
+			String name = invocation.name.substring("0dispatch_".length());
+			int arity = org.objectweb.asm.Type.getArgumentTypes(invocation.desc).length;
+
+			this.classNode.methods.add(
+				new DispatcherMethod(this.thisType, name, arity).generate());
+		}
 	}
 
 	@Override
@@ -381,19 +421,17 @@ public class ClassListener extends PackageListener
 	private void checkFieldInitialisation(
 		YirgacheffeParser.ClassDefinitionContext context)
 	{
-		String initialiserPrefix = "0init_field";
+		String initialiserPrefix = "0init_field_";
 		Interface members = this.thisType.reflect();
-		Set<Function> methods = members.getMethods();
 
 		Set<String> fieldNames =
 			this.getFieldNames(members.getFields());
 
-		for (Function method: methods)
+		for (String field: fieldNames.toArray(new String[0]))
 		{
-			if (method.getName().startsWith(initialiserPrefix))
+			if (!members.getMethodsNamed(initialiserPrefix + field).isEmpty())
 			{
-				fieldNames.remove(
-					method.getName().substring(initialiserPrefix.length() + 1));
+				fieldNames.remove(field);
 			}
 		}
 
@@ -10,8 +10,8 @@ import org.objectweb.asm.tree.MethodInsnNode;
 import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.VarInsnNode;
 import yirgacheffe.compiler.error.Error;
-import yirgacheffe.compiler.function.Function;
 import yirgacheffe.compiler.member.Interface;
+import yirgacheffe.compiler.member.Property;
 import yirgacheffe.compiler.type.Classes;
 import yirgacheffe.compiler.type.PrimitiveType;
 import yirgacheffe.compiler.type.Type;
@@ -22,7 +22,6 @@ import yirgacheffe.parser.YirgacheffeParser;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
-import java.util.Set;
 import java.util.UUID;
 
 public class ConstructorListener extends MainMethodListener
@@ -196,21 +195,21 @@ public class ConstructorListener extends MainMethodListener
 	{
 		InsnList instructions = new InsnList();
 
-		String initialiserPrefix = "0init_field";
+		String initialiserPrefix = "0init_field_";
 		Interface members = this.thisType.reflect();
 
-		Set<Function> methods = members.getMethods();
-
-		for (Function method: methods)
+		for (Property field: members.getFields())
 		{
-			if (method.getName().startsWith(initialiserPrefix))
+			String initialiser = initialiserPrefix + field.getName();
+
+			if (!members.getMethodsNamed(initialiser).isEmpty())
 			{
 				instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
 
 				instructions.add(new MethodInsnNode(
 					Opcodes.INVOKEVIRTUAL,
 					this.className,
-					method.getName(),
+					initialiser,
 					"()V",
 					false));
 			}
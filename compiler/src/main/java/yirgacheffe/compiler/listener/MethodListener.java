@@ -317,23 +317,14 @@ public class MethodListener extends TypeListener
 		YirgacheffeParser.FunctionBlockContext context,
 		FieldAssignment fieldAssignments)
 	{
-		String initialiserPrefix = "0init_field";
+		String initialiserPrefix = "0init_field_";
 		Interface members = thisType.reflect();
-		Set<Function> methods = members.getMethods();
 		Set<String> fieldNames = this.getFieldNames(members.getFields());
 
-		for (Function method: methods)
-		{
-			if (method.getName().startsWith(initialiserPrefix))
-			{
-				fieldNames.remove(
-					method.getName().substring(initialiserPrefix.length() + 1));
-			}
-		}
-
 		for (String field: fieldNames.toArray(new String[0]))
 		{
-			if (fieldAssignments.contains(field))
+			if (!members.getMethodsNamed(initialiserPrefix + field).isEmpty() ||
+				fieldAssignments.contains(field))
 			{
 				fieldNames.remove(field);
 			}
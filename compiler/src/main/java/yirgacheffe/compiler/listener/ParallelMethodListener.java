@@ -105,6 +105,8 @@ public class ParallelMethodListener extends FieldDeclarationListener
 
 		writer.methods.add(this.methodNode);
 
+		this.parallelMethods.push(this.methodNode);
+
 		this.generatedClassWriter = writer;
 	}
 
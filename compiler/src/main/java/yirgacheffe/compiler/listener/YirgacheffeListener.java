@@ -1,9 +1,12 @@
 package yirgacheffe.compiler.listener;
 
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 import yirgacheffe.compiler.CompilationResult;
 import yirgacheffe.compiler.error.Error;
+import yirgacheffe.compiler.expression.DevirtualisedCallInsnNode;
 import yirgacheffe.compiler.parallel.GeneratedClass;
 import yirgacheffe.compiler.type.Classes;
 import yirgacheffe.compiler.type.Types;
@@ -52,7 +55,7 @@ public class YirgacheffeListener extends YirgacheffeBaseListener
 		return directory.toString();
 	}
 
-	public void exportDefinedTypes()
+	public GeneratedClass exportDefinedTypes()
 	{
 		ClassWriter writer =
 			new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
@@ -62,6 +65,8 @@ public class YirgacheffeListener extends YirgacheffeBaseListener
 		byte[] bytes = writer.toByteArray();
 
 		this.classes.addClass(this.className.replace("/", "."), bytes);
+
+		return new GeneratedClass(this.className, bytes);
 	}
 
 	public CompilationResult getCompilationResult()
@@ -81,8 +86,30 @@ public class YirgacheffeListener extends YirgacheffeBaseListener
 			String classFileName = this.className + ".class";
 			byte[] bytes = writer.toByteArray();
 
-			return new CompilationResult(classFileName, bytes, this.generatedClasses);
+			return new CompilationResult(
+				classFileName,
+				bytes,
+				this.generatedClasses,
+				this.countDevirtualisedCallSites());
+		}
+	}
+
+	private int countDevirtualisedCallSites()
+	{
+		int callSites = 0;
+
+		for (MethodNode method: this.classNode.methods)
+		{
+			for (AbstractInsnNode instruction: method.instructions)
+			{
+				if (instruction instanceof DevirtualisedCallInsnNode)
+				{
+					callSites++;
+				}
+			}
 		}
+
+		return callSites;
 	}
 
 	@Override
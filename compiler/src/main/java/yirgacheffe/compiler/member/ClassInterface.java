@@ -9,8 +9,12 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ClassInterface implements Interface
 {
@@ -18,6 +22,8 @@ public class ClassInterface implements Interface
 
 	private Class<?> clazz;
 
+	private Map<String, Set<Function>> functions = new ConcurrentHashMap<>();
+
 	public ClassInterface(Type type, Class<?> clazz)
 	{
 		this.type = type;
@@ -26,27 +32,69 @@ public class ClassInterface implements Interface
 
 	public Set<Function> getConstructors()
 	{
-		return this.makeFunctions(this.clazz.getDeclaredConstructors());
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions("constructors", metadata.getConstructors());
 	}
 
 	public Set<Function> getPublicConstructors()
 	{
-		return this.makeFunctions(this.clazz.getConstructors());
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions("public constructors", metadata.getPublicConstructors());
 	}
 
 	public Set<Function> getMethods()
 	{
-		return this.makeFunctions(this.clazz.getDeclaredMethods());
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions("methods", metadata.getMethods());
 	}
 
 	public Set<Function> getPublicMethods()
 	{
-		return this.makeFunctions(this.clazz.getMethods());
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions("public methods", metadata.getPublicMethods());
+	}
+
+	public Set<Function> getMethodsNamed(String name)
+	{
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions("methods " + name, metadata.getMethodsNamed(name));
+	}
+
+	public Set<Function> getPublicMethodsNamed(String name)
+	{
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions(
+			"public methods " + name,
+			metadata.getPublicMethodsNamed(name));
+	}
+
+	public Set<Function> getMethodsNamed(String name, int arity)
+	{
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions(
+			"methods " + name + "/" + arity,
+			metadata.getMethodsNamed(name, arity));
+	}
+
+	public Set<Function> getPublicMethodsNamed(String name, int arity)
+	{
+		ClassMetadata metadata = ClassMetadata.of(this.clazz);
+
+		return this.getFunctions(
+			"public methods " + name + "/" + arity,
+			metadata.getPublicMethodsNamed(name, arity));
 	}
 
 	public Set<Property> getFields()
 	{
-		Set<Property> properties = new HashSet<>();
+		Set<Property> properties = new LinkedHashSet<>();
 
 		for (Field field: this.clazz.getDeclaredFields())
 		{
@@ -133,16 +181,26 @@ public class ClassInterface implements Interface
 		return this.clazz.getSimpleName();
 	}
 
-	private Set<Function> makeFunctions(Executable[] executables)
+	private Set<Function> getFunctions(String key, final Array<Executable> executables)
 	{
-		Set<Function> functions = new HashSet<>();
+		final Type owner = this.type;
+		java.util.function.Function<String, Set<Function>> makeFunctions =
+			new java.util.function.Function<String, Set<Function>>()
+			{
+				public Set<Function> apply(String name)
+				{
+					Set<Function> functions = new HashSet<>();
 
-		for (Executable executable: executables)
-		{
-			functions.add(new ClassFunction(this.type, executable));
-		}
+					for (Executable executable: executables)
+					{
+						functions.add(new ClassFunction(owner, executable));
+					}
+
+					return Collections.unmodifiableSet(functions);
+				}
+			};
 
-		return functions;
+		return this.functions.computeIfAbsent(key, makeFunctions);
 	}
 
 	@Override
@@ -0,0 +1,105 @@
+package yirgacheffe.compiler.member;
+
+import yirgacheffe.lang.Array;
+
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ClassMetadata
+{
+	private static final ClassValue<ClassMetadata> METADATA =
+		new ClassValue<ClassMetadata>()
+		{
+			@Override
+			protected ClassMetadata computeValue(Class<?> clazz)
+			{
+				return new ClassMetadata(clazz);
+			}
+		};
+
+	private Array<Executable> constructors;
+
+	private Array<Executable> publicConstructors;
+
+	private Array<Executable> methods;
+
+	private Array<Executable> publicMethods;
+
+	private Map<String, Array<Executable>> methodsByName;
+
+	private Map<String, Array<Executable>> publicMethodsByName;
+
+	private ClassMetadata(Class<?> clazz)
+	{
+		this.constructors = new Array<>(clazz.getDeclaredConstructors());
+		this.publicConstructors = new Array<>(clazz.getConstructors());
+		this.methods = new Array<>(clazz.getDeclaredMethods());
+		this.publicMethods = new Array<>(clazz.getMethods());
+		this.methodsByName = this.index(this.methods);
+		this.publicMethodsByName = this.index(this.publicMethods);
+	}
+
+	public static ClassMetadata of(Class<?> clazz)
+	{
+		return METADATA.get(clazz);
+	}
+
+	public Array<Executable> getConstructors()
+	{
+		return this.constructors;
+	}
+
+	public Array<Executable> getPublicConstructors()
+	{
+		return this.publicConstructors;
+	}
+
+	public Array<Executable> getMethods()
+	{
+		return this.methods;
+	}
+
+	public Array<Executable> getPublicMethods()
+	{
+		return this.publicMethods;
+	}
+
+	public Array<Executable> getMethodsNamed(String name)
+	{
+		return this.methodsByName.getOrDefault(name, new Array<>());
+	}
+
+	public Array<Executable> getPublicMethodsNamed(String name)
+	{
+		return this.publicMethodsByName.getOrDefault(name, new Array<>());
+	}
+
+	public Array<Executable> getMethodsNamed(String name, int arity)
+	{
+		return this.getMethodsNamed(name + "/" + arity);
+	}
+
+	public Array<Executable> getPublicMethodsNamed(String name, int arity)
+	{
+		return this.getPublicMethodsNamed(name + "/" + arity);
+	}
+
+	private Map<String, Array<Executable>> index(Array<Executable> executables)
+	{
+		Map<String, Array<Executable>> index = new HashMap<>();
+
+		for (Executable executable: executables)
+		{
+			String name = executable.getName();
+			String key = name + "/" + executable.getParameterCount();
+
+			index.putIfAbsent(name, new Array<>());
+			index.get(name).push(executable);
+			index.putIfAbsent(key, new Array<>());
+			index.get(key).push(executable);
+		}
+
+		return index;
+	}
+}
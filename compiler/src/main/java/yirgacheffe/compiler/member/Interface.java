@@ -16,6 +16,14 @@ public interface Interface
 
 	Set<Function> getPublicMethods();
 
+	Set<Function> getMethodsNamed(String name);
+
+	Set<Function> getPublicMethodsNamed(String name);
+
+	Set<Function> getMethodsNamed(String name, int arity);
+
+	Set<Function> getPublicMethodsNamed(String name, int arity);
+
 	Set<Property> getFields();
 
 	Property getField(String name);
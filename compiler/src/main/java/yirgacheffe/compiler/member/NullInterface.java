@@ -32,6 +32,26 @@ public class NullInterface implements Interface
 		return new HashSet<>(Collections.singletonList(new NullFunction()));
 	}
 
+	public Set<Function> getMethodsNamed(String name)
+	{
+		return new HashSet<>(Collections.singletonList(new NullFunction()));
+	}
+
+	public Set<Function> getPublicMethodsNamed(String name)
+	{
+		return new HashSet<>(Collections.singletonList(new NullFunction()));
+	}
+
+	public Set<Function> getMethodsNamed(String name, int arity)
+	{
+		return new HashSet<>(Collections.singletonList(new NullFunction()));
+	}
+
+	public Set<Function> getPublicMethodsNamed(String name, int arity)
+	{
+		return new HashSet<>(Collections.singletonList(new NullFunction()));
+	}
+
 	public Set<Property> getFields()
 	{
 		return Collections.emptySet();
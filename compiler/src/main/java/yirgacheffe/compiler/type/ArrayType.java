@@ -20,6 +20,8 @@ public class ArrayType implements Type
 
 	private Type type;
 
+	private Interface members;
+
 	public ArrayType(String name, Type type)
 	{
 		this.jvmType = name.replace(".", "/");
@@ -34,11 +36,13 @@ public class ArrayType implements Type
 		{
 			throw new RuntimeException(e);
 		}
+
+		this.members = new ClassInterface(this, this.reflectionClass);
 	}
 
 	public Interface reflect()
 	{
-		return new ClassInterface(this, this.reflectionClass);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
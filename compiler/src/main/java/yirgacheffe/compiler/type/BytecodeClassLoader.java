@@ -1,22 +1,34 @@
 package yirgacheffe.compiler.type;
 
-import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BytecodeClassLoader extends ClassLoader
 {
+	static
+	{
+		ClassLoader.registerAsParallelCapable();
+	}
+
 	private ClassLoader fileLoader;
 
+	private Map<String, byte[]> bytecode = new ConcurrentHashMap<>();
+
+	public BytecodeClassLoader()
 	{
-		File file = new File(".");
+		this(Paths.get("."));
+	}
 
+	public BytecodeClassLoader(Path directory)
+	{
 		try
 		{
-			URL url = file.toURI().toURL();
+			URL url = directory.toUri().toURL();
 
 			this.fileLoader =  new URLClassLoader(new URL[] {url});
 		}
@@ -26,8 +38,6 @@ public class BytecodeClassLoader extends ClassLoader
 		}
 	}
 
-	private Map<String, byte[]> bytecode = new HashMap<>();
-
 	public void add(String name, byte[] bytes)
 	{
 		this.bytecode.put(name, bytes);
@@ -1,10 +1,27 @@
 package yirgacheffe.compiler.type;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class Classes
 {
-	private BytecodeClassLoader classLoaderIn = new BytecodeClassLoader();
+	private Path directory;
+
+	private volatile BytecodeClassLoader classLoaderIn;
+
+	private volatile BytecodeClassLoader classLoaderOut;
+
+	public Classes()
+	{
+		this(Paths.get("."));
+	}
 
-	private BytecodeClassLoader classLoaderOut = new BytecodeClassLoader();
+	public Classes(Path directory)
+	{
+		this.directory = directory;
+		this.classLoaderIn = new BytecodeClassLoader(directory);
+		this.classLoaderOut = new BytecodeClassLoader(directory);
+	}
 
 	public void addClass(String name, byte[] bytes)
 	{
@@ -19,6 +36,6 @@ public class Classes
 	public void clearCache()
 	{
 		this.classLoaderIn = this.classLoaderOut;
-		this.classLoaderOut = new BytecodeClassLoader();
+		this.classLoaderOut = new BytecodeClassLoader(this.directory);
 	}
 }
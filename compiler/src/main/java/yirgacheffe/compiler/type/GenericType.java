@@ -13,14 +13,17 @@ public class GenericType implements Type
 {
 	private Type type;
 
+	private Interface members;
+
 	public GenericType(Type type)
 	{
 		this.type = type;
+		this.members = type.reflect(this);
 	}
 
 	public Interface reflect()
 	{
-		return this.type.reflect(this);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
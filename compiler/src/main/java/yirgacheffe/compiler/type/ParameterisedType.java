@@ -21,6 +21,8 @@ public class ParameterisedType implements Type
 
 	private Map<String, Type> typeParameters;
 
+	private Interface members;
+
 	public ParameterisedType(ReferenceType primaryType, Array<Type> typeParameters)
 	{
 		this.primaryType = primaryType;
@@ -35,11 +37,12 @@ public class ParameterisedType implements Type
 		}
 
 		this.typeParameters = types;
+		this.members = primaryType.reflect(this);
 	}
 
 	public Interface reflect()
 	{
-		return this.primaryType.reflect(this);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
@@ -11,6 +11,8 @@ import yirgacheffe.compiler.Result;
 import yirgacheffe.compiler.error.Coordinate;
 import yirgacheffe.compiler.member.ClassInterface;
 import yirgacheffe.compiler.member.Interface;
+import yirgacheffe.compiler.instructions.BooleanInstructions;
+import yirgacheffe.compiler.instructions.CharacterInstructions;
 import yirgacheffe.compiler.instructions.DoubleInstructions;
 import yirgacheffe.compiler.instructions.FloatInstructions;
 import yirgacheffe.compiler.instructions.Instructions;
@@ -26,14 +28,14 @@ public enum PrimitiveType implements Type
 		java.lang.Void.class, Float.NaN),
 
 	BOOLEAN(
-		"Bool", "Z", 1, new IntegerInstructions(),
+		"Bool", "Z", 1, new BooleanInstructions(),
 		java.lang.Boolean.class, Float.NaN),
 
 	BYTE("Num", "B", 1, new IntegerInstructions(),
 		java.lang.Byte.class, Float.NaN),
 
 	CHAR(
-		"Char", "C", 1, new IntegerInstructions(),
+		"Char", "C", 1, new CharacterInstructions(),
 		java.lang.Character.class, 2),
 
 	INT(
@@ -64,6 +66,8 @@ public enum PrimitiveType implements Type
 
 	private float order;
 
+	private Interface members;
+
 	PrimitiveType(
 		String name,
 		String jvmType,
@@ -78,11 +82,12 @@ public enum PrimitiveType implements Type
 		this.instructions = instructions;
 		this.reflectionClass = reflectionClass;
 		this.order = order;
+		this.members = new ClassInterface(this, reflectionClass);
 	}
 
 	public Interface reflect()
 	{
-		return new ClassInterface(this, this.reflectionClass);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
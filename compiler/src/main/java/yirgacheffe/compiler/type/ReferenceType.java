@@ -17,14 +17,17 @@ public class ReferenceType implements Type
 {
 	private Class<?> reflectionClass;
 
+	private Interface members;
+
 	public ReferenceType(Class<?> reflectionClass)
 	{
 		this.reflectionClass = reflectionClass;
+		this.members = new ClassInterface(this, reflectionClass);
 	}
 
 	public Interface reflect()
 	{
-		return new ClassInterface(this, this.reflectionClass);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
@@ -12,19 +12,22 @@ public class VariableType implements Type
 {
 	private String name;
 
+	private Interface members;
+
 	public VariableType(String name)
 	{
 		this.name = name;
+		this.members = new ClassInterface(this, Object.class);
 	}
 
 	public Interface reflect()
 	{
-		return new ClassInterface(this, Object.class);
+		return this.members;
 	}
 
 	public Interface reflect(Type type)
 	{
-		return new ClassInterface(this, Object.class);
+		return this.members;
 	}
 
 	public String toJVMType()
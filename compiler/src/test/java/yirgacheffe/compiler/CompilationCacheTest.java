@@ -0,0 +1,79 @@
+package yirgacheffe.compiler;
+
+import org.junit.Test;
+import yirgacheffe.compiler.parallel.GeneratedClass;
+import yirgacheffe.lang.Array;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class CompilationCacheTest
+{
+	@Test
+	public void testDisabledCacheStoresNothing() throws Exception
+	{
+		CompilationCache cache = new CompilationCache();
+
+		cache.put("key", new Array<>(new GeneratedClass("thingy", new byte[] {1})));
+
+		assertNull(cache.get("key"));
+	}
+
+	@Test
+	public void testStoredClassesAreRetrieved() throws Exception
+	{
+		Path directory = Files.createTempDirectory("cache");
+		CompilationCache cache = new CompilationCache(directory.toString());
+		Array<GeneratedClass> classes =
+			new Array<>(
+				new GeneratedClass("thingy", new byte[] {1, 2}),
+				new GeneratedClass("sumpt", new byte[] {3}));
+
+		assertNull(cache.get("key"));
+
+		cache.put("key", classes);
+
+		Array<GeneratedClass> cached = cache.get("key");
+
+		assertEquals(2, cached.length());
+		assertEquals("thingy", cached.get(0).getClassName());
+		assertArrayEquals(new byte[] {1, 2}, cached.get(0).getBytecode());
+		assertEquals("sumpt", cached.get(1).getClassName());
+		assertArrayEquals(new byte[] {3}, cached.get(1).getBytecode());
+		File[] versions = directory.toFile().listFiles();
+
+		assertEquals(1, versions.length);
+		assertEquals(64, versions[0].getName().length());
+		assertNotEquals(cache.hash(""), versions[0].getName());
+		assertEquals(1, versions[0].listFiles().length);
+
+		for (File entry: versions[0].listFiles())
+		{
+			entry.delete();
+		}
+
+		versions[0].delete();
+		directory.toFile().delete();
+	}
+
+	@Test
+	public void testHashes()
+	{
+		CompilationCache cache = new CompilationCache();
+		Array<Array<GeneratedClass>> classes = new Array<>();
+
+		classes.set(0, new Array<>(new GeneratedClass("thingy", new byte[] {1})));
+
+		assertEquals(64, cache.hash("thingy").length());
+		assertEquals(cache.hash("thingy"), cache.hash("thingy"));
+		assertNotEquals(cache.hash("thingy"), cache.hash("sumpt"));
+		assertEquals(64, cache.hash(classes).length());
+		assertNotEquals(cache.hash(""), cache.hash(classes));
+	}
+}
@@ -0,0 +1,272 @@
+package yirgacheffe.compiler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompilerDaemonTest
+{
+	private String home;
+
+	private Path temporaryHome;
+
+	private CompilerDaemon daemon;
+
+	private Thread thread;
+
+	@Before
+	public void startDaemon() throws IOException
+	{
+		this.home = System.getProperty("user.home");
+		this.temporaryHome = Files.createTempDirectory("home");
+
+		System.setProperty("user.home", this.temporaryHome.toString());
+
+		this.daemon = CompilerDaemon.open(new String[] {"0"});
+		this.thread = new Thread()
+		{
+			@Override
+			public void run()
+			{
+				CompilerDaemonTest.this.daemon.serve();
+			}
+		};
+
+		this.thread.start();
+	}
+
+	@After
+	public void stopDaemon() throws Exception
+	{
+		this.daemon.close();
+		this.thread.join();
+
+		System.setProperty("user.home", this.home);
+
+		assertFalse(this.thread.isAlive());
+
+		Path tokenDirectory = this.temporaryHome.resolve(".yirgacheffe");
+
+		for (File entry: tokenDirectory.toFile().listFiles())
+		{
+			entry.delete();
+		}
+
+		tokenDirectory.toFile().delete();
+		this.temporaryHome.toFile().delete();
+	}
+
+	@Test
+	public void testCompilesRequestedFiles() throws Exception
+	{
+		String directory = new File(".").getAbsolutePath();
+
+		assertEquals("", this.request(directory, "example/MyClass.yg"));
+		assertTrue(new FileInputStream("example/MyClass.class").read() != -1);
+
+		new File("example/MyClass.class").delete();
+	}
+
+	@Test
+	public void testReportsErrorsToClient() throws Exception
+	{
+		String directory = new File(".").getAbsolutePath();
+
+		assertEquals(
+			"Errors in file example/Unparsable.yg:\n" +
+			"line 1:40 Missing '}'.\n",
+			this.request(directory, "example/Unparsable.yg"));
+
+		assertEquals(
+			"Errors in file example/Unparsable.yg:\n" +
+			"line 1:40 Missing '}'.\n",
+			this.request(directory, "example/Unparsable.yg"));
+	}
+
+	@Test
+	public void testResolvesFilesAgainstClientDirectory() throws Exception
+	{
+		Path directory = Files.createTempDirectory("daemon");
+		String thingy = "class Thingy\n{\npublic Thingy() {}\n}";
+		String sumpt =
+			"class Sumpt\n{\npublic Sumpt() {}\n" +
+			"public Thingy thingy() { return new Thingy(); }\n}";
+
+		Files.write(directory.resolve("Thingy.yg"), thingy.getBytes());
+		Files.write(directory.resolve("Sumpt.yg"), sumpt.getBytes());
+
+		assertEquals(
+			"java.nio.file.NoSuchFileException: " + directory + "/Missing.yg\n",
+			this.request(directory.toString(), "Missing.yg"));
+		assertEquals("", this.request(directory.toString(), "Thingy.yg"));
+		assertEquals("", this.request(directory.toString(), "Sumpt.yg"));
+		assertTrue(Files.exists(directory.resolve("Thingy.class")));
+		assertTrue(Files.exists(directory.resolve("Sumpt.class")));
+
+		for (File entry: directory.toFile().listFiles())
+		{
+			entry.delete();
+		}
+
+		directory.toFile().delete();
+	}
+
+	@Test
+	public void testOpensOnGivenPort() throws Exception
+	{
+		ServerSocket socket = new ServerSocket(0);
+		int port = socket.getLocalPort();
+
+		socket.close();
+
+		String[] args = new String[] {Integer.toString(port)};
+		CompilerDaemon daemon = CompilerDaemon.open(args);
+
+		Path tokenFile =
+			this.temporaryHome.resolve(".yirgacheffe/daemon-" + port + ".token");
+
+		assertEquals(port, daemon.getPort());
+		assertNotEquals(
+			this.getToken(),
+			new String(Files.readAllBytes(tokenFile), StandardCharsets.UTF_8));
+
+		daemon.close();
+	}
+
+	@Test
+	public void testTokenFileIsPrivate() throws Exception
+	{
+		Path tokenFile = this.getTokenFile();
+
+		assertEquals(64, Files.readAllBytes(tokenFile).length);
+		assertEquals(
+			"rw-------",
+			PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)));
+		assertEquals(
+			"rwx------",
+			PosixFilePermissions.toString(
+				Files.getPosixFilePermissions(tokenFile.getParent())));
+		assertEquals(1, tokenFile.getParent().toFile().listFiles().length);
+	}
+
+	@Test
+	public void testRejectsInvalidToken() throws Exception
+	{
+		String directory = new File(".").getAbsolutePath();
+
+		assertEquals(
+			"Invalid daemon token.\n",
+			this.send("thingy\n" + directory + "\nexample/MyClass.yg\n\n"));
+		assertFalse(new File("example/MyClass.class").exists());
+	}
+
+	@Test
+	public void testServesAfterEmptyConnection() throws Exception
+	{
+		InetAddress address = InetAddress.getLoopbackAddress();
+
+		new Socket(address, this.daemon.getPort()).close();
+
+		String directory = new File(".").getAbsolutePath();
+
+		assertEquals("", this.request(directory, "example/MyClass.yg"));
+		assertTrue(new FileInputStream("example/MyClass.class").read() != -1);
+
+		new File("example/MyClass.class").delete();
+	}
+
+	@Test
+	public void testRequestEndsWithConnection() throws Exception
+	{
+		String directory = new File(".").getAbsolutePath();
+		String token = this.getToken();
+
+		assertEquals("", this.send(token + "\n" + directory + "\nexample/MyClass.yg\n"));
+		assertTrue(new FileInputStream("example/MyClass.class").read() != -1);
+
+		new File("example/MyClass.class").delete();
+	}
+
+	@Test
+	public void testReportsIncompleteRequest() throws Exception
+	{
+		assertEquals(
+			"java.lang.NullPointerException\n",
+			this.send(this.getToken() + "\n"));
+
+		String directory = new File(".").getAbsolutePath();
+
+		assertEquals("", this.request(directory, "example/MyClass.yg"));
+
+		new File("example/MyClass.class").delete();
+	}
+
+	private Path getTokenFile()
+	{
+		return this.temporaryHome.resolve(
+			".yirgacheffe/daemon-" + this.daemon.getPort() + ".token");
+	}
+
+	private String getToken() throws IOException
+	{
+		byte[] token = Files.readAllBytes(this.getTokenFile());
+
+		return new String(token, StandardCharsets.UTF_8);
+	}
+
+	private String request(String directory, String... arguments) throws IOException
+	{
+		StringBuilder request = new StringBuilder(this.getToken() + "\n");
+
+		request.append(directory + "\n");
+
+		for (String argument: arguments)
+		{
+			request.append(argument + "\n");
+		}
+
+		return this.send(request + "\n");
+	}
+
+	private String send(String request) throws IOException
+	{
+		InetAddress address = InetAddress.getLoopbackAddress();
+
+		try (Socket socket = new Socket(address, this.daemon.getPort()))
+		{
+			OutputStream out = socket.getOutputStream();
+
+			out.write(request.getBytes(StandardCharsets.UTF_8));
+			out.flush();
+			socket.shutdownOutput();
+
+			InputStream in = socket.getInputStream();
+			StringBuilder response = new StringBuilder();
+
+			for (int c = in.read(); c != -1; c = in.read())
+			{
+				response.append((char) c);
+			}
+
+			return response.toString();
+		}
+	}
+}
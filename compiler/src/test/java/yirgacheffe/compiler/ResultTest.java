@@ -0,0 +1,74 @@
+package yirgacheffe.compiler;
+
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import yirgacheffe.compiler.error.Coordinate;
+import yirgacheffe.compiler.error.Error;
+import yirgacheffe.lang.Array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ResultTest
+{
+	@Test
+	public void testEmptyResult()
+	{
+		Result result = new Result();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(0, result.getInstructions().length());
+		assertEquals(0, result.getTryCatchBlocks().length());
+	}
+
+	@Test
+	public void testItemsAreKeptInOrder()
+	{
+		Error error = new Error(new Coordinate(1, 0), "error");
+		LabelNode label = new LabelNode();
+		TryCatchBlockNode tryCatchBlock =
+			new TryCatchBlockNode(label, label, label, null);
+		InsnNode first = new InsnNode(Opcodes.ICONST_0);
+		InsnNode second = new InsnNode(Opcodes.ICONST_1);
+		InsnNode third = new InsnNode(Opcodes.ICONST_2);
+
+		Result start = new Result().add(first);
+		Result end = new Result().add(third).add(error);
+		Result middle = new Result().add(second).add(tryCatchBlock);
+		Result result = start.concat(middle).concat(end);
+
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(3, instructions.length());
+		assertSame(first, instructions.get(0));
+		assertSame(second, instructions.get(1));
+		assertSame(third, instructions.get(2));
+		assertEquals(1, result.getErrors().length());
+		assertSame(error, result.getErrors().get(0));
+		assertEquals(1, result.getTryCatchBlocks().length());
+		assertSame(tryCatchBlock, result.getTryCatchBlocks().get(0));
+		assertEquals(1, start.getInstructions().length());
+		assertEquals(2, end.getInstructions().length() + end.getErrors().length());
+	}
+
+	@Test
+	public void testLongChainOfResults()
+	{
+		Result result = new Result();
+		Result nested = new Result();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			result = result.add(new InsnNode(Opcodes.NOP));
+			nested = new Result().add(new InsnNode(Opcodes.NOP)).concat(nested);
+		}
+
+		assertEquals(100000, result.getInstructions().length());
+		assertEquals(100000, nested.getInstructions().length());
+		assertSame(result.getInstructions(), result.getInstructions());
+	}
+}
@@ -1,13 +1,19 @@
 package yirgacheffe.compiler;
 
 import org.junit.Test;
+import yirgacheffe.compiler.parallel.GeneratedClass;
+import yirgacheffe.lang.Array;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -265,4 +271,281 @@ public class YirgacheffeTest
 
 		System.setErr(originalError);
 	}
+
+	@Test
+	public void testErrorsReportedInArgumentOrder() throws Exception
+	{
+		PrintStream originalError = System.err;
+		ByteArrayOutputStream spyError = new ByteArrayOutputStream();
+		PrintStream error = new PrintStream(spyError);
+		String[] arguments =
+			new String[]
+				{
+					"example/more/MoreClass.yg",
+					"example/Unparsable.yg",
+					"example/MyClass.yg"
+				};
+
+		System.setErr(error);
+
+		Yirgacheffe.main(arguments);
+
+		assertEquals(
+			"Errors in file example/more/MoreClass.yg:\n" +
+			"line 9:6 Unrecognised type: MyClass is not a type.\n" +
+			"line 12:1 Method requires method body.\n" +
+			"Errors in file example/Unparsable.yg:\n" +
+			"line 1:40 Missing '}'.\n",
+			spyError.toString());
+
+		System.setErr(originalError);
+
+		new File("example/MyClass.class").delete();
+	}
+
+	@Test
+	public void testIncrementalCompilationReusesCachedClasses() throws Exception
+	{
+		PrintStream originalError = System.err;
+		ByteArrayOutputStream spyError = new ByteArrayOutputStream();
+		PrintStream error = new PrintStream(spyError);
+		Path directory = Files.createTempDirectory("cache");
+		String[] arguments =
+			new String[]
+				{
+					"--cache",
+					directory.toString(),
+					"example/codependency/A.yg",
+					"example/codependency/B.yg",
+				};
+
+		System.setErr(error);
+
+		Yirgacheffe.main(arguments);
+
+		CompilationCache cache = new CompilationCache(directory.toString());
+		File[] entries = this.getEntries(directory);
+
+		assertEquals(6, entries.length);
+
+		for (File entry: entries)
+		{
+			Array<GeneratedClass> classes = cache.get(entry.getName());
+
+			if (entry.getName().startsWith("class-"))
+			{
+				GeneratedClass classFile =
+					new GeneratedClass(classes.get(0).getClassName(), new byte[] {1});
+
+				cache.put(entry.getName(), new Array<>(classFile));
+			}
+		}
+
+		Yirgacheffe.main(arguments);
+
+		assertArrayEquals(
+			new byte[] {1},
+			Files.readAllBytes(Paths.get("example/codependency/A.class")));
+
+		for (File entry: this.getEntries(directory))
+		{
+			if (entry.getName().startsWith("class-"))
+			{
+				assertTrue(entry.delete());
+			}
+		}
+
+		new File("example/codependency/A.class").delete();
+		new File("example/codependency/B.class").delete();
+
+		Yirgacheffe.main(arguments);
+
+		assertEquals("", spyError.toString());
+		assertEquals(
+			0xCA,
+			new FileInputStream("example/codependency/A.class").read());
+		assertEquals(6, this.getEntries(directory).length);
+
+		System.setErr(originalError);
+
+		new File("example/codependency/A.class").delete();
+		new File("example/codependency/B.class").delete();
+
+		for (File entry: this.getEntries(directory))
+		{
+			entry.delete();
+		}
+
+		directory.toFile().listFiles()[0].delete();
+		directory.toFile().delete();
+	}
+
+	@Test
+	public void testIncrementalCompilationRestoresGeneratedClasses() throws Exception
+	{
+		PrintStream originalError = System.err;
+		ByteArrayOutputStream spyError = new ByteArrayOutputStream();
+		PrintStream error = new PrintStream(spyError);
+		Path directory = Files.createTempDirectory("cache");
+		String[] arguments =
+			new String[] {"--cache", directory.toString(), "example/Parallel.yg"};
+
+		System.setErr(error);
+
+		Yirgacheffe.main(arguments);
+
+		new File("example/Parallel.class").delete();
+		new File("example/Parallel$getString.class").delete();
+
+		Yirgacheffe.main(arguments);
+
+		assertEquals("", spyError.toString());
+		assertTrue(new FileInputStream("example/Parallel.class").read() != -1);
+		assertTrue(new FileInputStream("example/Parallel$getString.class").read() != -1);
+
+		System.setErr(originalError);
+
+		new File("example/Parallel.class").delete();
+		new File("example/Parallel$getString.class").delete();
+
+		for (File entry: this.getEntries(directory))
+		{
+			entry.delete();
+		}
+
+		directory.toFile().listFiles()[0].delete();
+		directory.toFile().delete();
+	}
+
+	@Test
+	public void testIncrementalCompilationRecompilesDependants() throws Exception
+	{
+		PrintStream originalError = System.err;
+		ByteArrayOutputStream spyError = new ByteArrayOutputStream();
+		PrintStream error = new PrintStream(spyError);
+		Path directory = Files.createTempDirectory("cache");
+		Path dependency = Paths.get("example/incremental/Dependency.yg");
+		Path dependant = Paths.get("example/incremental/Dependant.yg");
+		String[] arguments =
+			new String[]
+				{
+					"--cache",
+					directory.toString(),
+					dependency.toString(),
+					dependant.toString(),
+				};
+
+		Files.createDirectories(dependency.getParent());
+		Files.write(dependency, this.dependency("getString").getBytes());
+		Files.write(
+			dependant,
+			(
+				"package example.incremental;\n" +
+				"class Dependant\n" +
+				"{\n" +
+				"public Dependant() {}\n" +
+				"public String getString()\n" +
+				"{\n" +
+				"return new Dependency().getString();\n" +
+				"}\n" +
+				"}"
+			).getBytes());
+
+		System.setErr(error);
+
+		Yirgacheffe.main(arguments);
+
+		assertEquals("", spyError.toString());
+
+		Files.write(dependency, this.dependency("getThing").getBytes());
+
+		Yirgacheffe.main(arguments);
+
+		assertEquals(
+			"Errors in file example/incremental/Dependant.yg:\n" +
+			"line 7:23 Invoked method example.incremental.Dependency.getString() " +
+			"not found.\n",
+			spyError.toString());
+
+		System.setErr(originalError);
+
+		for (File entry: this.getEntries(directory))
+		{
+			entry.delete();
+		}
+
+		for (File entry: dependency.getParent().toFile().listFiles())
+		{
+			entry.delete();
+		}
+
+		directory.toFile().listFiles()[0].delete();
+		directory.toFile().delete();
+		dependency.getParent().toFile().delete();
+	}
+
+	@Test
+	public void testReportsDevirtualisedCallSites() throws Exception
+	{
+		ByteArrayOutputStream spyError = new ByteArrayOutputStream();
+		PrintStream error = new PrintStream(spyError);
+		Path directory = Files.createTempDirectory("report");
+		Path cache = directory.resolve("cache");
+		String source =
+			"class Square\n" +
+			"{\n" +
+			"public Square() {}\n" +
+			"public Num square(Num number)\n" +
+			"{\n" +
+			"return number * this.square(number - 1);\n" +
+			"}\n" +
+			"}";
+		Array<String> arguments =
+			new Array<>("--report", "--cache", cache.toString(), "Square.yg");
+
+		Files.write(directory.resolve("Square.yg"), source.getBytes());
+
+		Yirgacheffe.compile(directory, arguments, error);
+		Yirgacheffe.compile(directory, arguments, error);
+
+		assertEquals(
+			"Square.yg: 1 devirtualised call sites\n" +
+			"Square.yg: 1 devirtualised call sites\n",
+			spyError.toString());
+		assertTrue(Files.exists(directory.resolve("Square.class")));
+
+		for (File entry: this.getEntries(cache))
+		{
+			entry.delete();
+		}
+
+		cache.toFile().listFiles()[0].delete();
+		cache.toFile().delete();
+
+		for (File entry: directory.toFile().listFiles())
+		{
+			entry.delete();
+		}
+
+		directory.toFile().delete();
+	}
+
+	private File[] getEntries(Path directory)
+	{
+		return directory.toFile().listFiles()[0].listFiles();
+	}
+
+	private String dependency(String method)
+	{
+		return
+			"package example.incremental;\n" +
+			"class Dependency\n" +
+			"{\n" +
+			"public Dependency() {}\n" +
+			"public String " + method + "()\n" +
+			"{\n" +
+			"return \"thingy\";\n" +
+			"}\n" +
+			"}";
+	}
 }
@@ -5,6 +5,7 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.LineNumberNode;
@@ -13,6 +14,7 @@ import org.objectweb.asm.tree.TypeInsnNode;
 import yirgacheffe.compiler.Result;
 import yirgacheffe.compiler.error.Coordinate;
 import yirgacheffe.compiler.type.ParameterisedType;
+import yirgacheffe.compiler.type.PrimitiveType;
 import yirgacheffe.compiler.variables.LocalVariables;
 import yirgacheffe.compiler.type.ReferenceType;
 import yirgacheffe.compiler.type.Type;
@@ -216,6 +218,153 @@ public class InvokeConstructorTest
 		assertEquals("([Ljava/lang/Object;)V", fifteenthInstruction.desc);
 	}
 
+	@Test
+	public void testConstructNumArray()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(1, 0);
+		ReferenceType array = new ReferenceType(Array.class);
+		Array<Type> typeParameters = new Array<>(PrimitiveType.DOUBLE);
+		Type owner = new ParameterisedType(array, typeParameters);
+		Expression one = new Num(coordinate, "1.0");
+		Expression two = new Num(coordinate, "2.0");
+		Array<Expression> arguments = new Array<>(one, two);
+
+		InvokeConstructor invokeConstructor =
+			new InvokeConstructor(
+				coordinate,
+				owner,
+				arguments);
+
+		Type type = invokeConstructor.getType(variables);
+		Result result = invokeConstructor.compile(variables);
+
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals("yirgacheffe/lang/Array", type.toFullyQualifiedType());
+		assertEquals(0, result.getErrors().length());
+		assertEquals(18, instructions.length());
+
+		TypeInsnNode firstInstruction = (TypeInsnNode) instructions.get(0);
+
+		assertEquals(Opcodes.NEW, firstInstruction.getOpcode());
+		assertEquals("yirgacheffe/lang/NumArray", firstInstruction.desc);
+
+		IntInsnNode fourthInstruction = (IntInsnNode) instructions.get(3);
+
+		assertEquals(Opcodes.NEWARRAY, fourthInstruction.getOpcode());
+		assertEquals(Opcodes.T_DOUBLE, fourthInstruction.operand);
+
+		InsnNode eighthInstruction = (InsnNode) instructions.get(7);
+
+		assertEquals(Opcodes.DASTORE, eighthInstruction.getOpcode());
+
+		MethodInsnNode fifteenthInstruction = (MethodInsnNode) instructions.get(14);
+
+		assertEquals(Opcodes.INVOKESPECIAL, fifteenthInstruction.getOpcode());
+		assertEquals("yirgacheffe/lang/NumArray", fifteenthInstruction.owner);
+		assertEquals("<init>", fifteenthInstruction.name);
+		assertEquals("([D)V", fifteenthInstruction.desc);
+	}
+
+	@Test
+	public void testConstructBoolArray()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(1, 0);
+		ReferenceType array = new ReferenceType(Array.class);
+		Array<Type> typeParameters = new Array<>(PrimitiveType.BOOLEAN);
+		Type owner = new ParameterisedType(array, typeParameters);
+		Expression bool = new Bool(coordinate, "true");
+		Array<Expression> arguments = new Array<>(bool);
+
+		InvokeConstructor invokeConstructor =
+			new InvokeConstructor(
+				coordinate,
+				owner,
+				arguments);
+
+		Result result = invokeConstructor.compile(variables);
+
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+
+		TypeInsnNode firstInstruction = (TypeInsnNode) instructions.get(0);
+
+		assertEquals("yirgacheffe/lang/BoolArray", firstInstruction.desc);
+
+		IntInsnNode fourthInstruction = (IntInsnNode) instructions.get(3);
+
+		assertEquals(Opcodes.T_BOOLEAN, fourthInstruction.operand);
+
+		InsnNode eighthInstruction = (InsnNode) instructions.get(7);
+
+		assertEquals(Opcodes.BASTORE, eighthInstruction.getOpcode());
+
+		MethodInsnNode lastInstruction = (MethodInsnNode) instructions.get(10);
+
+		assertEquals("yirgacheffe/lang/BoolArray", lastInstruction.owner);
+		assertEquals("([Z)V", lastInstruction.desc);
+	}
+
+	@Test
+	public void testConstructEmptyCharArray()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(1, 0);
+		ReferenceType array = new ReferenceType(Array.class);
+		Array<Type> typeParameters = new Array<>(PrimitiveType.CHAR);
+		Type owner = new ParameterisedType(array, typeParameters);
+		Array<Expression> arguments = new Array<>();
+
+		InvokeConstructor invokeConstructor =
+			new InvokeConstructor(
+				coordinate,
+				owner,
+				arguments);
+
+		Result result = invokeConstructor.compile(variables);
+
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+
+		TypeInsnNode firstInstruction = (TypeInsnNode) instructions.get(0);
+
+		assertEquals("yirgacheffe/lang/CharArray", firstInstruction.desc);
+
+		MethodInsnNode invokeInstruction = (MethodInsnNode) instructions.get(4);
+
+		assertEquals("yirgacheffe/lang/CharArray", invokeInstruction.owner);
+		assertEquals("()V", invokeInstruction.desc);
+	}
+
+	@Test
+	public void testConstructIntArrayIsNotSpecialised()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(1, 0);
+		ReferenceType array = new ReferenceType(Array.class);
+		Array<Type> typeParameters = new Array<>(PrimitiveType.INT);
+		Type owner = new ParameterisedType(array, typeParameters);
+		Array<Expression> arguments = new Array<>();
+
+		InvokeConstructor invokeConstructor =
+			new InvokeConstructor(
+				coordinate,
+				owner,
+				arguments);
+
+		Result result = invokeConstructor.compile(variables);
+
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		TypeInsnNode firstInstruction = (TypeInsnNode) instructions.get(0);
+
+		assertEquals("yirgacheffe/lang/Array", firstInstruction.desc);
+	}
+
 	@Test
 	public void testConstructArrayWithInvalidArgument()
 	{
@@ -53,6 +53,31 @@ public class InvokeMethodTest
 	{
 	}
 
+	public double square(double number)
+	{
+		return number * number;
+	}
+
+	public void pair(double number)
+	{
+	}
+
+	public void pair(boolean bool)
+	{
+	}
+
+	public void print(String string)
+	{
+	}
+
+	public void show(String string)
+	{
+	}
+
+	public void show(Exception exception)
+	{
+	}
+
 	@Test
 	public void testCompilingToStringInvocation()
 	{
@@ -680,4 +705,231 @@ public class InvokeMethodTest
 			".method(java.lang.String,java.lang.String) not found.",
 			result.getErrors().get(0).toString());
 	}
+
+	@Test
+	public void testStaticDispatchOnThis()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(0, 1);
+		This testClass = new This(coordinate, new ReferenceType(this.getClass()));
+		Array<Expression> arguments = new Array<>(new Num(coordinate, "2.0"));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"square",
+				new Caller(
+					"yirgacheffe/compiler/expression/InvokeMethodTest",
+					new HashMap<>()),
+				testClass,
+				arguments);
+
+		Type type = invokeMethod.getType(variables);
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+		assertEquals("D", type.toJVMType());
+
+		VarInsnNode firstInstruction = (VarInsnNode) instructions.get(0);
+
+		assertEquals(Opcodes.ALOAD, firstInstruction.getOpcode());
+		assertEquals(0, firstInstruction.var);
+
+		LdcInsnNode secondInstruction = (LdcInsnNode) instructions.get(1);
+
+		assertEquals(Opcodes.LDC, secondInstruction.getOpcode());
+		assertEquals(2.0, secondInstruction.cst);
+
+		assertTrue(instructions.get(2) instanceof LabelNode);
+		assertTrue(instructions.get(3) instanceof LineNumberNode);
+
+		MethodInsnNode fifthInstruction = (MethodInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifthInstruction.getOpcode());
+		assertEquals(
+			"yirgacheffe/compiler/expression/InvokeMethodTest",
+			fifthInstruction.owner);
+		assertEquals("square", fifthInstruction.name);
+		assertEquals("(D)D", fifthInstruction.desc);
+		assertFalse(fifthInstruction.itf);
+		assertTrue(fifthInstruction instanceof DevirtualisedCallInsnNode);
+	}
+
+	@Test
+	public void testDynamicDispatchOnVariable()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Type owner = new ReferenceType(this.getClass());
+		Coordinate coordinate = new Coordinate(0, 1);
+
+		variables.declare(new VariableDeclaration(coordinate, "myVariable", owner));
+
+		VariableRead expression = new VariableRead(coordinate, "myVariable");
+		Array<Expression> arguments = new Array<>(new Num(coordinate, "2.0"));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"square",
+				new Caller("MyClass", new HashMap<>()),
+				expression,
+				arguments);
+
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+
+		InvokeDynamicInsnNode fifthInstruction =
+			(InvokeDynamicInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals("square", fifthInstruction.name);
+		assertEquals(
+			"(Lyirgacheffe/compiler/expression/InvokeMethodTest;D)D",
+			fifthInstruction.desc);
+	}
+
+	@Test
+	public void testDynamicDispatchOnOverloadedMethod()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(0, 1);
+		This testClass = new This(coordinate, new ReferenceType(this.getClass()));
+		Array<Expression> arguments = new Array<>(new Num(coordinate, "2.0"));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"pair",
+				new Caller(
+					"yirgacheffe/compiler/expression/InvokeMethodTest",
+					new HashMap<>()),
+				testClass,
+				arguments);
+
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+
+		InvokeDynamicInsnNode fifthInstruction =
+			(InvokeDynamicInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals("pair", fifthInstruction.name);
+		assertEquals(
+			"(Lyirgacheffe/compiler/expression/InvokeMethodTest;D)V",
+			fifthInstruction.desc);
+	}
+
+	@Test
+	public void testDynamicDispatchOnReferenceArgument()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(0, 1);
+		This testClass = new This(coordinate, new ReferenceType(this.getClass()));
+		Array<Expression> arguments = new Array<>(new Streeng(coordinate, "\"thingy\""));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"print",
+				new Caller(
+					"yirgacheffe/compiler/expression/InvokeMethodTest",
+					new HashMap<>()),
+				testClass,
+				arguments);
+
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+
+		InvokeDynamicInsnNode fifthInstruction =
+			(InvokeDynamicInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals("print", fifthInstruction.name);
+		assertEquals(
+			"(Lyirgacheffe/compiler/expression/InvokeMethodTest;Ljava/lang/String;)V",
+			fifthInstruction.desc);
+	}
+
+	@Test
+	public void testDispatcherOnOverloadedMethod()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Coordinate coordinate = new Coordinate(0, 1);
+		This testClass = new This(coordinate, new ReferenceType(this.getClass()));
+		Array<Expression> arguments = new Array<>(new Streeng(coordinate, "\"thingy\""));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"show",
+				new Caller(
+					"yirgacheffe/compiler/expression/InvokeMethodTest",
+					new HashMap<>()),
+				testClass,
+				arguments);
+
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+
+		MethodInsnNode fifthInstruction = (MethodInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifthInstruction.getOpcode());
+		assertEquals(
+			"yirgacheffe/compiler/expression/InvokeMethodTest",
+			fifthInstruction.owner);
+		assertEquals("0dispatch_show", fifthInstruction.name);
+		assertEquals("(Ljava/lang/Object;)V", fifthInstruction.desc);
+		assertFalse(fifthInstruction.itf);
+		assertFalse(fifthInstruction instanceof DevirtualisedCallInsnNode);
+	}
+
+	@Test
+	public void testDynamicDispatchOnOverloadedVariable()
+	{
+		Variables variables = new LocalVariables(1, new HashMap<>(), new HashMap<>());
+		Type owner = new ReferenceType(this.getClass());
+		Coordinate coordinate = new Coordinate(0, 1);
+
+		variables.declare(new VariableDeclaration(coordinate, "myVariable", owner));
+
+		VariableRead expression = new VariableRead(coordinate, "myVariable");
+		Array<Expression> arguments = new Array<>(new Streeng(coordinate, "\"thingy\""));
+
+		InvokeMethod invokeMethod =
+			new InvokeMethod(
+				coordinate,
+				"show",
+				new Caller("MyClass", new HashMap<>()),
+				expression,
+				arguments);
+
+		Result result = invokeMethod.compile(variables);
+		Array<AbstractInsnNode> instructions = result.getInstructions();
+
+		assertEquals(0, result.getErrors().length());
+		assertEquals(5, instructions.length());
+
+		InvokeDynamicInsnNode fifthInstruction =
+			(InvokeDynamicInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals("show", fifthInstruction.name);
+		assertEquals(
+			"(Lyirgacheffe/compiler/expression/InvokeMethodTest;Ljava/lang/String;)V",
+			fifthInstruction.desc);
+	}
 }
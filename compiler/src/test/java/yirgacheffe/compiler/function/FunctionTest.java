@@ -4,7 +4,9 @@ import org.junit.Test;
 import yirgacheffe.compiler.type.ReferenceType;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 public class FunctionTest
 {
@@ -27,6 +29,20 @@ public class FunctionTest
 		assertEquals(firstFunction.hashCode(), secondFunction.hashCode());
 	}
 
+	@Test
+	public void testFunctionIsNamed() throws Exception
+	{
+		Class<?> string = "".getClass();
+
+		Function function =
+			new ClassFunction(
+				new ReferenceType(string),
+				string.getMethod("toString"));
+
+		assertTrue(function.isNamed("toString"));
+		assertFalse(function.isNamed("hashCode"));
+	}
+
 	@Test
 	public void testUnequalFunctions() throws Exception
 	{
@@ -0,0 +1,455 @@
+package yirgacheffe.compiler.generated;
+
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import yirgacheffe.compiler.type.PrimitiveType;
+import yirgacheffe.compiler.type.ReferenceType;
+import yirgacheffe.compiler.type.Type;
+import yirgacheffe.lang.Array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DispatcherMethodTest
+{
+	private Type owner = new ReferenceType(this.getClass());
+
+	private Type string = new ReferenceType(String.class);
+
+	public String describe(String string)
+	{
+		return "string";
+	}
+
+	public String describe(Exception exception)
+	{
+		return "exception";
+	}
+
+	public String describe(double number)
+	{
+		return "number";
+	}
+
+	public String describe(boolean bool)
+	{
+		return "boolean";
+	}
+
+	public String describe(char character)
+	{
+		return "character";
+	}
+
+	public String describe(int integer)
+	{
+		return "integer";
+	}
+
+	public String describe(long integer)
+	{
+		return "long";
+	}
+
+	public String describe(String first, String second)
+	{
+		return "strings";
+	}
+
+	public String pair(String string, double number)
+	{
+		return "string number";
+	}
+
+	public String pair(Exception exception, String string)
+	{
+		return "exception string";
+	}
+
+	public String print(String string)
+	{
+		return string;
+	}
+
+	public String join(String string)
+	{
+		return string;
+	}
+
+	public String join(String... strings)
+	{
+		return "";
+	}
+
+	public String count(String string)
+	{
+		return string;
+	}
+
+	public static String count(Exception exception)
+	{
+		return "";
+	}
+
+	public String mixed(String string)
+	{
+		return string;
+	}
+
+	public Object mixed(Exception exception)
+	{
+		return exception;
+	}
+
+	public String number(double number)
+	{
+		return "";
+	}
+
+	public String number(Double number)
+	{
+		return "";
+	}
+
+	public String collect(String string)
+	{
+		return string;
+	}
+
+	public String collect(Array<String> strings)
+	{
+		return "";
+	}
+
+	public String small(String string)
+	{
+		return string;
+	}
+
+	public String small(float number)
+	{
+		return "";
+	}
+
+	public String handle(Object object)
+	{
+		return "object";
+	}
+
+	public String handle(Exception exception)
+	{
+		return "exception";
+	}
+
+	public String handle(RuntimeException exception)
+	{
+		return "runtime exception";
+	}
+
+	public String shape(CharSequence sequence)
+	{
+		return "sequence";
+	}
+
+	public String shape(Exception exception)
+	{
+		return "exception";
+	}
+
+	public String run(Exception exception)
+	{
+		return "exception";
+	}
+
+	public String run(Runnable runnable)
+	{
+		return "runnable";
+	}
+
+	public String cross(String string, Object object)
+	{
+		return "string object";
+	}
+
+	public String cross(Object object, String string)
+	{
+		return "object string";
+	}
+
+	@Test
+	public void testOverloadedMethodIsApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "describe", 1);
+
+		assertEquals("0dispatch_describe", dispatcher.getName());
+		assertEquals(
+			"(Ljava/lang/Object;)Ljava/lang/String;",
+			dispatcher.getDescriptor());
+		assertTrue(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+		assertTrue(dispatcher.isApplicable("[Ljava/lang/String;", this.string));
+		assertFalse(dispatcher.isApplicable("D", this.string));
+		assertFalse(dispatcher.isApplicable("Z", this.string));
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", PrimitiveType.VOID));
+	}
+
+	@Test
+	public void testDescriptorHasObjectParameters()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "describe", 2);
+
+		assertEquals(
+			"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+			dispatcher.getDescriptor());
+		assertFalse(
+			dispatcher.isApplicable("Ljava/lang/Object;Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testSingleMethodIsNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "print", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testVariableArgumentsAreNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "join", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testStaticMethodIsNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "count", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testMixedReturnTypesAreNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "mixed", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testSameBoxedTypeIsNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "number", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testParameterisedTypeIsNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "collect", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testUnboxedPrimitiveIsNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "small", 1);
+
+		assertFalse(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testAmbiguousInterfaceIsNotApplicable()
+	{
+		DispatcherMethod shape = new DispatcherMethod(this.owner, "shape", 1);
+		DispatcherMethod run = new DispatcherMethod(this.owner, "run", 1);
+
+		assertFalse(shape.isApplicable("Ljava/lang/Object;", this.string));
+		assertFalse(run.isApplicable("Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testAmbiguousParametersAreNotApplicable()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "cross", 2);
+
+		assertFalse(
+			dispatcher.isApplicable("Ljava/lang/Object;Ljava/lang/Object;", this.string));
+	}
+
+	@Test
+	public void testDispatcherTestsMostSpecificTypeFirst()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "handle", 1);
+
+		assertTrue(dispatcher.isApplicable("Ljava/lang/Object;", this.string));
+
+		InsnList instructions = dispatcher.generate().instructions;
+
+		String[] classes =
+			{
+				"java/lang/RuntimeException",
+				"java/lang/Exception",
+				"java/lang/Object"
+			};
+
+		int[] classIndices = {3, 12, 21};
+
+		for (int i = 0; i < classIndices.length; i++)
+		{
+			TypeInsnNode instruction = (TypeInsnNode) instructions.get(classIndices[i]);
+
+			assertEquals(Opcodes.INSTANCEOF, instruction.getOpcode());
+			assertEquals(classes[i], instruction.desc);
+		}
+	}
+
+	@Test
+	public void testGenerateDispatcher()
+	{
+		DispatcherMethod dispatcher = new DispatcherMethod(this.owner, "pair", 2);
+
+		assertTrue(
+			dispatcher.isApplicable("Ljava/lang/Object;Ljava/lang/Object;", this.string));
+
+		MethodNode methodNode = dispatcher.generate();
+
+		assertEquals(Opcodes.ACC_PROTECTED | Opcodes.ACC_SYNTHETIC, methodNode.access);
+		assertEquals("0dispatch_pair", methodNode.name);
+		assertEquals(
+			"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+			methodNode.desc);
+
+		InsnList instructions = methodNode.instructions;
+
+		int[] opcodes =
+			{
+				Opcodes.ALOAD, Opcodes.IFNULL, Opcodes.ALOAD, Opcodes.IFNULL,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFNE,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFNE,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFEQ,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFEQ,
+				Opcodes.ALOAD, Opcodes.ALOAD, Opcodes.CHECKCAST,
+				Opcodes.ALOAD, Opcodes.CHECKCAST,
+				Opcodes.INVOKEVIRTUAL, Opcodes.ARETURN, -1,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFEQ,
+				Opcodes.ALOAD, Opcodes.INSTANCEOF, Opcodes.IFEQ,
+				Opcodes.ALOAD, Opcodes.ALOAD, Opcodes.CHECKCAST,
+				Opcodes.ALOAD, Opcodes.CHECKCAST, Opcodes.INVOKEVIRTUAL,
+				Opcodes.INVOKEVIRTUAL, Opcodes.ARETURN, -1,
+				-1, Opcodes.ALOAD, Opcodes.ALOAD, Opcodes.ALOAD,
+				Opcodes.INVOKEDYNAMIC, Opcodes.ARETURN
+			};
+
+		assertEquals(opcodes.length, instructions.size());
+
+		for (int i = 0; i < opcodes.length; i++)
+		{
+			assertEquals(opcodes[i], instructions.get(i).getOpcode());
+		}
+
+		int[] variables = {1, 2, 2, 2, 1, 2, 0, 1, 2, 1, 2, 0, 1, 2};
+		int[] indices = {0, 2, 4, 7, 10, 13, 16, 17, 19, 24, 27, 30, 31, 33};
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			VarInsnNode instruction = (VarInsnNode) instructions.get(indices[i]);
+
+			assertEquals(variables[i], instruction.var);
+		}
+
+		LabelNode fallback = (LabelNode) instructions.get(39);
+		LabelNode firstNext = (LabelNode) instructions.get(23);
+		LabelNode secondNext = (LabelNode) instructions.get(38);
+
+		assertEquals(fallback, ((JumpInsnNode) instructions.get(1)).label);
+		assertEquals(fallback, ((JumpInsnNode) instructions.get(3)).label);
+		assertEquals(fallback, ((JumpInsnNode) instructions.get(6)).label);
+		assertEquals(fallback, ((JumpInsnNode) instructions.get(9)).label);
+		assertEquals(firstNext, ((JumpInsnNode) instructions.get(12)).label);
+		assertEquals(firstNext, ((JumpInsnNode) instructions.get(15)).label);
+		assertEquals(secondNext, ((JumpInsnNode) instructions.get(26)).label);
+		assertEquals(secondNext, ((JumpInsnNode) instructions.get(29)).label);
+
+		String[] classes =
+			{
+				"java/lang/Integer",
+				"java/lang/Long",
+				"java/lang/Exception",
+				"java/lang/String",
+				"java/lang/String",
+				"java/lang/Double"
+			};
+
+		int[] classIndices = {5, 8, 11, 14, 25, 28};
+
+		for (int i = 0; i < classIndices.length; i++)
+		{
+			TypeInsnNode instruction = (TypeInsnNode) instructions.get(classIndices[i]);
+
+			assertEquals(classes[i], instruction.desc);
+		}
+
+		String[] casts =
+			{
+				"java/lang/Exception",
+				"java/lang/String",
+				"java/lang/String",
+				"java/lang/Double"
+			};
+
+		int[] castIndices = {18, 20, 32, 34};
+
+		for (int i = 0; i < castIndices.length; i++)
+		{
+			TypeInsnNode instruction = (TypeInsnNode) instructions.get(castIndices[i]);
+
+			assertEquals(casts[i], instruction.desc);
+		}
+
+		MethodInsnNode firstCall = (MethodInsnNode) instructions.get(21);
+
+		assertEquals(
+			"yirgacheffe/compiler/generated/DispatcherMethodTest",
+			firstCall.owner);
+		assertEquals("pair", firstCall.name);
+		assertEquals(
+			"(Ljava/lang/Exception;Ljava/lang/String;)Ljava/lang/String;",
+			firstCall.desc);
+		assertFalse(firstCall.itf);
+
+		MethodInsnNode unbox = (MethodInsnNode) instructions.get(35);
+
+		assertEquals("java/lang/Double", unbox.owner);
+		assertEquals("doubleValue", unbox.name);
+		assertEquals("()D", unbox.desc);
+		assertFalse(unbox.itf);
+
+		MethodInsnNode secondCall = (MethodInsnNode) instructions.get(36);
+
+		assertEquals("pair", secondCall.name);
+		assertEquals("(Ljava/lang/String;D)Ljava/lang/String;", secondCall.desc);
+
+		InvokeDynamicInsnNode fallbackCall = (InvokeDynamicInsnNode) instructions.get(43);
+
+		assertEquals("pair", fallbackCall.name);
+		assertEquals(
+			"(Lyirgacheffe/compiler/generated/DispatcherMethodTest;" +
+				"Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;",
+			fallbackCall.desc);
+		assertEquals("yirgacheffe/lang/Bootstrap", fallbackCall.bsm.getOwner());
+		assertEquals("bootstrapPrivate", fallbackCall.bsm.getName());
+		assertEquals(Opcodes.H_INVOKESTATIC, fallbackCall.bsm.getTag());
+	}
+}
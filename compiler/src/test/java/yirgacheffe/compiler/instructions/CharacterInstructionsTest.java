@@ -0,0 +1,22 @@
+package yirgacheffe.compiler.instructions;
+
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import static org.junit.Assert.assertEquals;
+
+public class CharacterInstructionsTest
+{
+	@Test
+	public void testInstructions()
+	{
+		Instructions instructions = new CharacterInstructions();
+
+		assertEquals(Opcodes.IRETURN, instructions.getReturn());
+		assertEquals(Opcodes.ISTORE, instructions.getStore());
+		assertEquals(Opcodes.CASTORE, instructions.getArrayStore());
+		assertEquals(Opcodes.ILOAD, instructions.getLoad());
+		assertEquals(Opcodes.ICONST_0, instructions.getZero());
+		assertEquals(Opcodes.T_CHAR, instructions.getType());
+	}
+}
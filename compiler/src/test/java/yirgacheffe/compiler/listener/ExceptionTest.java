@@ -8,7 +8,6 @@ import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.FrameNode;
 import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.tree.InsnNode;
-import org.objectweb.asm.tree.InvokeDynamicInsnNode;
 import org.objectweb.asm.tree.JumpInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LdcInsnNode;
@@ -99,10 +98,9 @@ public class ExceptionTest
 		assertTrue(instructions.get(4) instanceof LabelNode);
 		assertTrue(instructions.get(5) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode seventhInstruction =
-			(InvokeDynamicInsnNode) instructions.get(6);
+		MethodInsnNode seventhInstruction = (MethodInsnNode) instructions.get(6);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, seventhInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, seventhInstruction.getOpcode());
 		assertEquals("getNumber", seventhInstruction.name);
 
 		MethodInsnNode eighthInstruction = (MethodInsnNode) instructions.get(7);
@@ -129,12 +127,12 @@ public class ExceptionTest
 		assertTrue(instructions.get(12) instanceof LabelNode);
 		assertTrue(instructions.get(13) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fifteenthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(14);
+		MethodInsnNode fifteenthInstruction =
+			(MethodInsnNode) instructions.get(14);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fifteenthInstruction.getOpcode());
-		assertEquals("handle", fifteenthInstruction.name);
-		assertEquals("(LMyClass;Ljava/lang/Object;)V", fifteenthInstruction.desc);
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifteenthInstruction.getOpcode());
+		assertEquals("0dispatch_handle", fifteenthInstruction.name);
+		assertEquals("(Ljava/lang/Object;)V", fifteenthInstruction.desc);
 	}
 
 	@Test
@@ -201,10 +199,9 @@ public class ExceptionTest
 		assertTrue(instructions.get(2) instanceof LabelNode);
 		assertTrue(instructions.get(3) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fifthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(4);
+		MethodInsnNode fifthInstruction = (MethodInsnNode) instructions.get(4);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifthInstruction.getOpcode());
 		assertEquals("getNumber", fifthInstruction.name);
 
 		MethodInsnNode sixthInstruction = (MethodInsnNode) instructions.get(5);
@@ -237,12 +234,12 @@ public class ExceptionTest
 		assertTrue(instructions.get(11) instanceof LabelNode);
 		assertTrue(instructions.get(12) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fourteenthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(13);
+		MethodInsnNode fourteenthInstruction =
+			(MethodInsnNode) instructions.get(13);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fourteenthInstruction.getOpcode());
-		assertEquals("handle", fourteenthInstruction.name);
-		assertEquals("(LMyClass;Ljava/lang/Object;)V", fourteenthInstruction.desc);
+		assertEquals(Opcodes.INVOKEVIRTUAL, fourteenthInstruction.getOpcode());
+		assertEquals("0dispatch_handle", fourteenthInstruction.name);
+		assertEquals("(Ljava/lang/Object;)V", fourteenthInstruction.desc);
 
 		VarInsnNode fifteenthInstruction = (VarInsnNode) instructions.get(14);
 
@@ -257,12 +254,12 @@ public class ExceptionTest
 		assertTrue(instructions.get(16) instanceof LabelNode);
 		assertTrue(instructions.get(17) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode nineteenthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(18);
+		MethodInsnNode nineteenthInstruction =
+			(MethodInsnNode) instructions.get(18);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, nineteenthInstruction.getOpcode());
-		assertEquals("handle", nineteenthInstruction.name);
-		assertEquals("(LMyClass;Ljava/lang/Object;)V", nineteenthInstruction.desc);
+		assertEquals(Opcodes.INVOKEVIRTUAL, nineteenthInstruction.getOpcode());
+		assertEquals("0dispatch_handle", nineteenthInstruction.name);
+		assertEquals("(Ljava/lang/Object;)V", nineteenthInstruction.desc);
 	}
 
 	@Test
@@ -337,10 +334,9 @@ public class ExceptionTest
 		assertTrue(instructions.get(4) instanceof LabelNode);
 		assertTrue(instructions.get(5) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode seventhInstruction =
-			(InvokeDynamicInsnNode) instructions.get(6);
+		MethodInsnNode seventhInstruction = (MethodInsnNode) instructions.get(6);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, seventhInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, seventhInstruction.getOpcode());
 		assertEquals("getNumber", seventhInstruction.name);
 
 		MethodInsnNode eighthInstruction = (MethodInsnNode) instructions.get(7);
@@ -367,12 +363,12 @@ public class ExceptionTest
 		assertTrue(instructions.get(12) instanceof LabelNode);
 		assertTrue(instructions.get(13) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fifteenthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(14);
+		MethodInsnNode fifteenthInstruction =
+			(MethodInsnNode) instructions.get(14);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fifteenthInstruction.getOpcode());
-		assertEquals("handle", fifteenthInstruction.name);
-		assertEquals("(LMyClass;Ljava/lang/Object;)V", fifteenthInstruction.desc);
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifteenthInstruction.getOpcode());
+		assertEquals("0dispatch_handle", fifteenthInstruction.name);
+		assertEquals("(Ljava/lang/Object;)V", fifteenthInstruction.desc);
 	}
 
 	@Test
@@ -437,10 +433,9 @@ public class ExceptionTest
 		assertTrue(instructions.get(2) instanceof LabelNode);
 		assertTrue(instructions.get(3) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fifthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(4);
+		MethodInsnNode fifthInstruction = (MethodInsnNode) instructions.get(4);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifthInstruction.getOpcode());
 		assertEquals("getNumber", fifthInstruction.name);
 
 		MethodInsnNode sixthInstruction = (MethodInsnNode) instructions.get(5);
@@ -534,10 +529,9 @@ public class ExceptionTest
 		assertTrue(instructions.get(2) instanceof LabelNode);
 		assertTrue(instructions.get(3) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode fifthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(4);
+		MethodInsnNode fifthInstruction = (MethodInsnNode) instructions.get(4);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fifthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, fifthInstruction.getOpcode());
 
 		JumpInsnNode sixthInstruction = (JumpInsnNode) instructions.get(5);
 		Label success = sixthInstruction.label.getLabel();
@@ -140,10 +140,9 @@ public class ExpressionListenerTest
 		assertEquals(label, thirdInstruction.start.getLabel());
 		assertEquals(5, thirdInstruction.line);
 
-		InvokeDynamicInsnNode fourthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(3);
+		MethodInsnNode fourthInstruction = (MethodInsnNode) instructions.get(3);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, fourthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, fourthInstruction.getOpcode());
 		assertEquals("getOne", fourthInstruction.name);
 
 		VarInsnNode fifthInstruction = (VarInsnNode) instructions.get(4);
@@ -698,7 +698,7 @@ public class FieldListenerTest
 		MethodInsnNode fourthInstruction = (MethodInsnNode) instructions.get(3);
 
 		assertEquals(Opcodes.INVOKEVIRTUAL, fourthInstruction.getOpcode());
-		assertEquals("0init_field_myString", fourthInstruction.name);
+		assertEquals("0init_field_myObject", fourthInstruction.name);
 		assertEquals("MyClass", fourthInstruction.owner);
 		assertEquals("()V", fourthInstruction.desc);
 
@@ -710,7 +710,7 @@ public class FieldListenerTest
 		MethodInsnNode sixthInstruction = (MethodInsnNode) instructions.get(5);
 
 		assertEquals(Opcodes.INVOKEVIRTUAL, sixthInstruction.getOpcode());
-		assertEquals("0init_field_myObject", sixthInstruction.name);
+		assertEquals("0init_field_myString", sixthInstruction.name);
 		assertEquals("MyClass", sixthInstruction.owner);
 		assertEquals("()V", sixthInstruction.desc);
 	}
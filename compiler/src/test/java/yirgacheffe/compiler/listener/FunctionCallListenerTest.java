@@ -1522,4 +1522,110 @@ public class FunctionCallListenerTest
 		assertEquals("asList", ninthInstruction.name);
 		assertEquals("([Ljava/lang/Object;)Ljava/util/List;", ninthInstruction.desc);
 	}
+
+	@Test
+	public void testCountDevirtualisedCallSites()
+	{
+		String source =
+			"class MyClass implements Comparable<String>\n" +
+			"{\n" +
+				"Num count = 1;\n" +
+				"main run(Array<String> args)\n" +
+				"{\n" +
+					"this.square(2);\n" +
+				"}\n" +
+				"public MyClass() {}\n" +
+				"public Num square(Num number)\n" +
+				"{\n" +
+					"return number * this.square(number - 1);\n" +
+				"}\n" +
+				"public Num compareTo(String other)\n" +
+				"{\n" +
+					"return this.square(other.length()) + this.square(1);\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+		assertEquals(4, result.getDevirtualisedCallSites());
+	}
+
+	@Test
+	public void testGenerateDispatcherForOverloadedMethod()
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"Num count = 1;\n" +
+				"public MyClass() {}\n" +
+				"public Void method(Object thing)\n" +
+				"{\n" +
+					"this.handle(thing);\n" +
+					"this.handle(this.square(2));\n" +
+					"this.handle(thing, thing);\n" +
+				"}\n" +
+				"public Num square(Num number) { return number * number; }\n" +
+				"public Void handle(Num number) {}\n" +
+				"public Void handle(Exception exception) {}\n" +
+				"public Void handle(Object object) {}\n" +
+				"public Void handle(Object first, Object second) {}\n" +
+				"public Void handle(String first, Object second) {}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+		assertEquals(1, result.getDevirtualisedCallSites());
+
+		ClassReader reader = new ClassReader(result.getBytecode());
+		ClassNode classNode = new ClassNode();
+
+		reader.accept(classNode, 0);
+
+		MethodNode method = classNode.methods.get(0);
+
+		for (MethodNode methodNode: classNode.methods)
+		{
+			if (methodNode.name.equals("method"))
+			{
+				method = methodNode;
+			}
+		}
+
+		InsnList instructions = method.instructions;
+		MethodInsnNode firstCall = (MethodInsnNode) instructions.get(4);
+
+		assertEquals(Opcodes.INVOKEVIRTUAL, firstCall.getOpcode());
+		assertEquals("MyClass", firstCall.owner);
+		assertEquals("0dispatch_handle", firstCall.name);
+		assertEquals("(Ljava/lang/Object;)V", firstCall.desc);
+
+		int methodCount = classNode.methods.size();
+		MethodNode firstDispatcher = classNode.methods.get(methodCount - 2);
+		MethodNode secondDispatcher = classNode.methods.get(methodCount - 1);
+
+		assertEquals(12, methodCount);
+		assertEquals("0dispatch_handle", firstDispatcher.name);
+		assertEquals("(Ljava/lang/Object;)V", firstDispatcher.desc);
+		assertEquals(
+			Opcodes.ACC_PROTECTED | Opcodes.ACC_SYNTHETIC,
+			firstDispatcher.access);
+		assertEquals("0dispatch_handle", secondDispatcher.name);
+		assertEquals("(Ljava/lang/Object;Ljava/lang/Object;)V", secondDispatcher.desc);
+	}
 }
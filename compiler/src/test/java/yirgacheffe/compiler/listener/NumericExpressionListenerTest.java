@@ -8,7 +8,6 @@ import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.FrameNode;
 import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.tree.InsnNode;
-import org.objectweb.asm.tree.InvokeDynamicInsnNode;
 import org.objectweb.asm.tree.JumpInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LdcInsnNode;
@@ -1292,12 +1291,11 @@ public class NumericExpressionListenerTest
 		assertTrue(instructions.get(9) instanceof LabelNode);
 		assertTrue(instructions.get(10) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode twelfthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(11);
+		MethodInsnNode twelfthInstruction = (MethodInsnNode) instructions.get(11);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, twelfthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, twelfthInstruction.getOpcode());
 		assertEquals("less", twelfthInstruction.name);
-		assertEquals("(LMyClass;D)V", twelfthInstruction.desc);
+		assertEquals("(D)V", twelfthInstruction.desc);
 
 		VarInsnNode thirteenthInstruction = (VarInsnNode) instructions.get(12);
 
@@ -1428,10 +1426,9 @@ public class NumericExpressionListenerTest
 		assertTrue(instructions.get(3) instanceof LabelNode);
 		assertTrue(instructions.get(4) instanceof LineNumberNode);
 
-		InvokeDynamicInsnNode sixthInstruction =
-			(InvokeDynamicInsnNode) instructions.get(5);
+		MethodInsnNode sixthInstruction = (MethodInsnNode) instructions.get(5);
 
-		assertEquals(Opcodes.INVOKEDYNAMIC, sixthInstruction.getOpcode());
+		assertEquals(Opcodes.INVOKEVIRTUAL, sixthInstruction.getOpcode());
 		assertEquals("less", sixthInstruction.name);
 	}
 }
@@ -573,4 +573,52 @@ public class ParallelMethodListenerTest
 
 		assertEquals(Opcodes.RETURN, instructions.get(8).getOpcode());
 	}
+
+	@Test
+	public void testOverloadedCallInParallelMethod()
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"parallel public Comparable<String> method(Object object)" +
+				"{\n" +
+					"return this.describe(object);\n" +
+				"}\n" +
+				"private String describe(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+				"private String describe(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+				"public MyClass() {}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("MyClass.yg", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		ClassReader reader = new ClassReader(result.getBytecode());
+		ClassNode classNode = new ClassNode();
+
+		reader.accept(classNode, 0);
+
+		MethodNode dispatcher = classNode.methods.get(classNode.methods.size() - 1);
+
+		assertEquals("0dispatch_describe", dispatcher.name);
+		assertEquals("(Ljava/lang/Object;)Ljava/lang/String;", dispatcher.desc);
+		assertEquals(Opcodes.ACC_PROTECTED | Opcodes.ACC_SYNTHETIC, dispatcher.access);
+	}
 }
@@ -1,10 +1,21 @@
 package yirgacheffe.compiler.member;
 
 import org.junit.Test;
+import yirgacheffe.compiler.function.Function;
 import yirgacheffe.compiler.type.PrimitiveType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class ClassInterfaceTest
 {
@@ -25,4 +36,127 @@ public class ClassInterfaceTest
 
 		assertNotEquals(first, second);
 	}
+
+	@Test
+	public void testMethodsNamed()
+	{
+		Interface members = new ClassInterface(PrimitiveType.INT, Shelf.class);
+
+		Set<Function> labels = members.getPublicMethodsNamed("label");
+		Set<Function> descriptions = members.getMethodsNamed("describe");
+
+		assertEquals(2, labels.size());
+		assertEquals(1, descriptions.size());
+		assertEquals(0, members.getPublicMethodsNamed("describe").size());
+		assertEquals(0, members.getMethodsNamed("thingy").size());
+
+		for (Function label: labels)
+		{
+			assertEquals("label", label.getName());
+		}
+	}
+
+	@Test
+	public void testMethodsNamedWithArity()
+	{
+		Interface members = new ClassInterface(PrimitiveType.INT, Shelf.class);
+
+		Set<Function> labels = members.getPublicMethodsNamed("label", 1);
+		Set<Function> descriptions = members.getMethodsNamed("describe", 1);
+
+		assertEquals(1, labels.size());
+		assertEquals(1, labels.iterator().next().getParameterTypes().length());
+		assertEquals(1, descriptions.size());
+		assertEquals(1, members.getMethodsNamed("label", 0).size());
+		assertEquals(0, members.getMethodsNamed("describe", 0).size());
+		assertEquals(0, members.getPublicMethodsNamed("describe", 1).size());
+		assertEquals(0, members.getPublicMethodsNamed("label", 2).size());
+	}
+
+	@Test
+	public void testFunctionsAreCached()
+	{
+		Interface members = new ClassInterface(PrimitiveType.INT, Shelf.class);
+
+		assertSame(members.getConstructors(), members.getConstructors());
+		assertSame(members.getPublicConstructors(), members.getPublicConstructors());
+		assertSame(members.getMethods(), members.getMethods());
+		assertSame(members.getPublicMethods(), members.getPublicMethods());
+		assertSame(members.getMethodsNamed("label"), members.getMethodsNamed("label"));
+		assertSame(
+			members.getPublicMethodsNamed("label"),
+			members.getPublicMethodsNamed("label"));
+		assertSame(
+			members.getMethodsNamed("label", 1),
+			members.getMethodsNamed("label", 1));
+		assertSame(
+			members.getPublicMethodsNamed("label", 1),
+			members.getPublicMethodsNamed("label", 1));
+		assertNotSame(members.getMethods(), members.getPublicMethods());
+		assertEquals(3, members.getMethods().size());
+		assertNotSame(
+			members.getMethodsNamed("label"),
+			members.getMethodsNamed("label", 1));
+	}
+
+	@Test
+	public void testConcurrentLookupsShareFunctions() throws Exception
+	{
+		final Interface members = new ClassInterface(PrimitiveType.INT, String.class);
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<Set<Function>>> futures = new ArrayList<>();
+
+		for (int i = 0; i < threadCount; i++)
+		{
+			futures.add(executor.submit(new Callable<Set<Function>>()
+			{
+				public Set<Function> call()
+				{
+					return members.getPublicMethodsNamed("substring");
+				}
+			}));
+		}
+
+		try
+		{
+			for (Future<Set<Function>> future: futures)
+			{
+				assertSame(members.getPublicMethodsNamed("substring"), future.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testCachedFunctionsAreUnmodifiable()
+	{
+		Interface members = new ClassInterface(PrimitiveType.INT, Shelf.class);
+
+		members.getPublicMethodsNamed("label").clear();
+	}
+
+	@Test
+	public void testMembersAreCachedPerClass()
+	{
+		ClassMetadata metadata = ClassMetadata.of(String.class);
+
+		assertSame(metadata, ClassMetadata.of(String.class));
+		assertNotSame(metadata, ClassMetadata.of(Object.class));
+		assertEquals(
+			String.class.getDeclaredConstructors().length,
+			metadata.getConstructors().length());
+		assertEquals(
+			String.class.getConstructors().length,
+			metadata.getPublicConstructors().length());
+		assertEquals(
+			String.class.getDeclaredMethods().length,
+			metadata.getMethods().length());
+		assertEquals(
+			String.class.getMethods().length,
+			metadata.getPublicMethods().length());
+	}
 }
@@ -27,6 +27,15 @@ public class NullInterfaceTest
 		assertTrue(members.getPublicMethods().iterator().next() instanceof NullFunction);
 		assertTrue(members.getConstructors().iterator().next() instanceof NullFunction);
 		assertEquals(0, members.getGenericInterfaces().size());
+		assertTrue(
+			members.getMethodsNamed("thingy").iterator().next() instanceof NullFunction);
+		assertTrue(
+			members.getPublicMethodsNamed("").iterator().next() instanceof NullFunction);
+		assertTrue(
+			members.getMethodsNamed("", 1).iterator().next() instanceof NullFunction);
+		assertTrue(
+			members.getPublicMethodsNamed("", 1).iterator().next() instanceof
+				NullFunction);
 
 		assertTrue(
 			members.getPublicConstructors().iterator().next() instanceof NullFunction);
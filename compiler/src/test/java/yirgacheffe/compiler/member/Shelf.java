@@ -0,0 +1,19 @@
+package yirgacheffe.compiler.member;
+
+public class Shelf
+{
+	public String label()
+	{
+		return "shelf";
+	}
+
+	public String label(String prefix)
+	{
+		return this.describe(prefix);
+	}
+
+	private String describe(String prefix)
+	{
+		return prefix + this.label();
+	}
+}
@@ -55,7 +55,7 @@ public class PrimitiveTypeTest
 		assertEquals(1, type.width());
 		assertEquals(Opcodes.IRETURN, type.getReturnInstruction());
 		assertEquals(Opcodes.ISTORE, type.getStoreInstruction());
-		assertEquals(Opcodes.IASTORE, type.getArrayStoreInstruction());
+		assertEquals(Opcodes.BASTORE, type.getArrayStoreInstruction());
 		assertEquals(Opcodes.ILOAD, type.getLoadInstruction());
 		assertEquals(Opcodes.ICONST_0, type.getZero());
 	}
@@ -71,7 +71,7 @@ public class PrimitiveTypeTest
 		assertEquals(1, type.width());
 		assertEquals(Opcodes.IRETURN, type.getReturnInstruction());
 		assertEquals(Opcodes.ISTORE, type.getStoreInstruction());
-		assertEquals(Opcodes.IASTORE, type.getArrayStoreInstruction());
+		assertEquals(Opcodes.CASTORE, type.getArrayStoreInstruction());
 		assertEquals(Opcodes.ILOAD, type.getLoadInstruction());
 		assertEquals(Opcodes.ICONST_0, type.getZero());
 	}
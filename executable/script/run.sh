@@ -1,13 +1,21 @@
 #! /bin/bash
 
+port="${YIRGACHEFFE_PORT:-7470}"
+token="$HOME/.yirgacheffe/daemon-$port.token"
+
 if [ "$1" == --run ];then
     shift 1
     java -cp .:"$0" "$@"
 elif [ "$1" == --repl ];then
     java -cp "$0" yirgacheffe.repl.Repl
+elif [ "$1" == --daemon ];then
+    java -cp "$0" yirgacheffe.compiler.CompilerDaemon "$port"
+elif [ -r "$token" ] && { exec 3<>/dev/tcp/127.0.0.1/"$port"; } 2>/dev/null;then
+    printf '%s\n' "$(cat "$token")" "$PWD" "$@" "" >&3
+    cat <&3 >&2
+    exec 3<&-
 else
     java -cp "$0" yirgacheffe.compiler.Yirgacheffe "$@"
 fi
 
 exit 0
-
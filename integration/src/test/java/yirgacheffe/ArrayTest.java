@@ -107,4 +107,124 @@ public class ArrayTest
 
 		java.lang.System.setOut(originalOut);
 	}
+
+	@Test
+	public void testPrimitiveArrays() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"public MyClass()\n" +
+				"{\n" +
+				"}\n" +
+				"public Void hello()\n" +
+				"{\n" +
+					"Array<Num> numbers = new Array<Num>(3, 1, 2);" +
+					"numbers.push(4);" +
+					"numbers.sort();" +
+					"Array<Bool> bools = new Array<Bool>(true, false);" +
+					"Array<Char> chars = new Array<Char>('b', 'a');" +
+					"chars.sort();" +
+					"new IO().getOut().println(numbers);" +
+					"new IO().getOut().println(numbers.indexOf(2));" +
+					"new IO().getOut().println(bools);" +
+					"new IO().getOut().println(chars.join(\"\"));" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		CompilationResult result = compiler.compile(new Classes());
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Object my = myClass.getConstructor().newInstance();
+		Method hello = myClass.getMethod("hello");
+
+		hello.invoke(my);
+
+		assertEquals(
+			"[1.0, 2.0, 3.0, 4.0]\n1.0\n[true, false]\nab\n",
+			spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
+
+	@Test
+	public void testSortWithOrdering() throws Exception
+	{
+		String orderingSource =
+			"class ByLength implements Ordering<String>\n" +
+			"{\n" +
+				"public ByLength() {}\n" +
+				"public Num compare(String first, String second)\n" +
+				"{\n" +
+					"return first.length() - second.length();\n" +
+				"}\n" +
+			"}";
+
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main method(Array<String> args)\n" +
+				"{\n" +
+					"Array<String> words = " +
+						"new Array<String>(\"ccc\", \"a\", \"bb\");\n" +
+					"words.sort(new ByLength());\n" +
+					"new IO().getOut().println(words);\n" +
+				"}\n" +
+			"}";
+
+		Classes classes = new Classes();
+
+		Compiler orderingCompiler = new Compiler("", orderingSource);
+		Compiler compiler = new Compiler("", source);
+
+		orderingCompiler.compileClassDeclaration(classes);
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		orderingCompiler.compileInterface(classes);
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult orderingResult = orderingCompiler.compile(classes);
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(orderingResult.isSuccessful());
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("ByLength", orderingResult.getBytecode());
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method method = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		method.invoke(null, (Object) args);
+
+		assertEquals("[a, bb, ccc]\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
 }
@@ -1,7 +1,6 @@
 package yirgacheffe;
 
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 import yirgacheffe.compiler.CompilationResult;
 import yirgacheffe.compiler.Compiler;
@@ -11,10 +10,7 @@ import yirgacheffe.lang.Bootstrap;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
-import java.lang.management.ManagementFactory;
-import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Method;
-import java.time.Duration;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -343,9 +339,8 @@ public class DynamicDispatchTest
 		java.lang.System.setOut(originalOut);
 	}
 
-	@Ignore
 	@Test
-	public void testDispatchPerformance() throws Exception
+	public void testPolymorphicCallSite() throws Exception
 	{
 		String source =
 			"import java.io.PrintStream;\n" +
@@ -354,12 +349,39 @@ public class DynamicDispatchTest
 				"PrintStream out = new IO().getOut();\n" +
 				"main method(Array<String> args)\n" +
 				"{\n" +
-					"Object obj = 1;\n" +
-					"for (Num i = 0; i < 10000000; i++)\n" +
+					"Array<Object> objects = new Array<Object>(" +
+						"\"thingy\", 1, true, new IO(), new Exception(), " +
+						"new MutableReference<String>());\n" +
+					"this.printAll(objects);\n" +
+					"this.printAll(objects);\n" +
+				"}\n" +
+				"private Void printAll(Array<Object> objects)\n" +
+				"{\n" +
+					"for (Num i = 0; i < objects.length(); i++)\n" +
 					"{\n" +
-						"this.out.print(obj);\n" +
+						"this.print(objects.get(i));\n" +
 					"}\n" +
 				"}\n" +
+				"private Void print(Object value)\n" +
+				"{\n" +
+					"this.out.println(\"object\");\n" +
+				"}\n" +
+				"private Void print(String value)\n" +
+				"{\n" +
+					"this.out.println(\"string\");\n" +
+				"}\n" +
+				"private Void print(Num value)\n" +
+				"{\n" +
+					"this.out.println(\"number\");\n" +
+				"}\n" +
+				"private Void print(Bool value)\n" +
+				"{\n" +
+					"this.out.println(\"boolean\");\n" +
+				"}\n" +
+				"private Void print(Exception value)\n" +
+				"{\n" +
+					"this.out.println(\"exception\");\n" +
+				"}\n" +
 			"}";
 
 		Compiler compiler = new Compiler("", source);
@@ -381,29 +403,322 @@ public class DynamicDispatchTest
 
 		classLoader.add("MyClass", result.getBytecode());
 
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
 		Class<?> myClass = classLoader.loadClass("MyClass");
 		Method hello = myClass.getMethod("main", String[].class);
 		String[] args = {};
 
-		long startTime = getCPUTime();
 		hello.invoke(null, (Object) args);
-		long endTime = getCPUTime();
 
-		System.out.println(
-			"---------- execution took " +
-			Duration.ofNanos(endTime - startTime).getSeconds() +
-			" seconds ----------");
+		String expected =
+			"string\nnumber\nboolean\nobject\nexception\nobject\n";
+
+		assertEquals(expected + expected, spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
 	}
 
-	private static long getCPUTime()
+	@Test
+	public void testStaticDispatchOnThis() throws Exception
 	{
-		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main hello(Array<String> args)\n" +
+				"{\n" +
+					"new IO().getOut().println(this.sumOfSquares(10));\n" +
+					"new IO().getOut().println(this.isEven(4, true));\n" +
+				"}\n" +
+
+				"private Num sumOfSquares(Num n)\n" +
+				"{\n" +
+					"Num total = 0;\n" +
+					"for (Num i = 1; i <= n; i++)\n" +
+					"{\n" +
+						"total = total + this.square(i);\n" +
+					"}\n" +
+					"return total;\n" +
+				"}\n" +
+
+				"private Num square(Num n)\n" +
+				"{\n" +
+					"return n * n;\n" +
+				"}\n" +
+
+				"private Bool isEven(Num n, Bool flag)\n" +
+				"{\n" +
+					"return n % 2 == 0 && flag;\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+		assertEquals(3, result.getDevirtualisedCallSites());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = {};
 
-		return threadMXBean.getCurrentThreadCpuTime();
+		hello.invoke(null, (Object) args);
+
+		assertEquals("385.0\ntrue\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
 	}
-}
 
-// previous runs with cache disabled
-// ---------- execution took 50 seconds ----------
-// ---------- execution took 40 seconds ----------
-// ---------- execution took 38 seconds ----------
+	@Test
+	public void testGeneratedDispatcher() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main hello(Array<String> args)\n" +
+				"{\n" +
+					"Num number = try this.getNumber();\n" +
+					"Num failure = try this.fail();\n" +
+					"Object nothing = new MutableReference<Object>().get();\n" +
+					"new IO().getOut().println(this.describe(number));\n" +
+					"new IO().getOut().println(this.describe(failure));\n" +
+					"new IO().getOut().println(this.describe(\"thingy\"));\n" +
+					"new IO().getOut().println(this.describe(this));\n" +
+					"new IO().getOut().println(this.describe(nothing));\n" +
+					"new IO().getOut().println(this.describe(\"thingy\", number));\n" +
+				"}\n" +
+
+				"private Num getNumber()\n" +
+				"{\n" +
+					"return 1;\n" +
+				"}\n" +
+
+				"private Num fail()\n" +
+				"{\n" +
+					"return new Exception();\n" +
+				"}\n" +
+
+				"private String describe(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+
+				"private String describe(Num number)\n" +
+				"{\n" +
+					"return \"number\";\n" +
+				"}\n" +
+
+				"private String describe(String string)\n" +
+				"{\n" +
+					"return \"string\";\n" +
+				"}\n" +
+
+				"private String describe(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+
+				"private String describe(Object first, Object second)\n" +
+				"{\n" +
+					"return \"objects\";\n" +
+				"}\n" +
+
+				"private String describe(String first, Num second)\n" +
+				"{\n" +
+					"return \"string number\";\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		hello.invoke(null, (Object) args);
+
+		assertEquals(
+			"number\nexception\nstring\nobject\nstring number\n",
+			spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
+
+	@Test
+	public void testGeneratedDispatcherMatchesSubclass() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main hello(Array<String> args)\n" +
+				"{\n" +
+					"Object failure = new RuntimeException();\n" +
+					"new IO().getOut().println(this.handle(failure));\n" +
+					"new IO().getOut().println(this.handle(\"thingy\"));\n" +
+				"}\n" +
+
+				"private String handle(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+
+				"private String handle(String string)\n" +
+				"{\n" +
+					"return \"string\";\n" +
+				"}\n" +
+
+				"private String handle(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		hello.invoke(null, (Object) args);
+
+		assertEquals("exception\nstring\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
+
+	@Test
+	public void testDispatcherAgreesWithDynamicDispatch() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main hello(Array<String> args)\n" +
+				"{\n" +
+					"MyClass my = this;\n" +
+					"Object failure = new IllegalStateException();\n" +
+					"new IO().getOut().println(this.handle(failure));\n" +
+					"new IO().getOut().println(my.handle(failure));\n" +
+				"}\n" +
+
+				"private String handle(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+
+				"private String handle(RuntimeException exception)\n" +
+				"{\n" +
+					"return \"runtime exception\";\n" +
+				"}\n" +
+
+				"private String handle(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		hello.invoke(null, (Object) args);
+
+		assertEquals("runtime exception\nruntime exception\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
+}
@@ -207,4 +207,141 @@ public class ParallelMethodTest
 			"MyClass$getString.compareTo()",
 			exception.getStackTrace()[0].toString());
 	}
+
+	@Test
+	public void testOverloadedCallInParallelMethod() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main method(Array<String> args)\n" +
+				"{\n" +
+					"Object failure = new RuntimeException();\n" +
+					"Comparable<String> string = this.getString(failure);\n" +
+					"Num comparison = string.compareTo(\"exception\");\n" +
+					"new IO().getOut().println(comparison);\n" +
+				"}\n" +
+				"parallel public Comparable<String> getString(Object object)\n" +
+				"{\n" +
+					"return this.describe(object);\n" +
+				"}\n" +
+				"private String describe(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+				"private String describe(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		GeneratedClass generatedClass = result.getGeneratedClasses().get(0);
+
+		classLoader.add(
+			generatedClass.getClassName(), generatedClass.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = new String[0];
+
+		hello.invoke(null, (Object) args);
+
+		assertEquals("0.0\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
+
+	@Test
+	public void testOverloadedCallInParallelAndOuterMethod() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main method(Array<String> args)\n" +
+				"{\n" +
+					"Object failure = new RuntimeException();\n" +
+					"new IO().getOut().println(this.describe(failure));\n" +
+					"Comparable<String> string = this.getString(failure);\n" +
+					"Num comparison = string.compareTo(\"exception\");\n" +
+					"new IO().getOut().println(comparison);\n" +
+				"}\n" +
+				"parallel public Comparable<String> getString(Object object)\n" +
+				"{\n" +
+					"return this.describe(object);\n" +
+				"}\n" +
+				"private String describe(Object object)\n" +
+				"{\n" +
+					"return \"object\";\n" +
+				"}\n" +
+				"private String describe(Exception exception)\n" +
+				"{\n" +
+					"return \"exception\";\n" +
+				"}\n" +
+			"}";
+
+		Compiler compiler = new Compiler("", source);
+		Classes classes = new Classes();
+
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		GeneratedClass generatedClass = result.getGeneratedClasses().get(0);
+
+		classLoader.add(
+			generatedClass.getClassName(), generatedClass.getBytecode());
+
+		PrintStream originalOut = java.lang.System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		java.lang.System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method hello = myClass.getMethod("main", String[].class);
+		String[] args = new String[0];
+
+		hello.invoke(null, (Object) args);
+
+		assertEquals("exception\n0.0\n", spyOut.toString());
+
+		java.lang.System.setOut(originalOut);
+	}
 }
@@ -0,0 +1,131 @@
+package yirgacheffe;
+
+import org.junit.Before;
+import org.junit.Test;
+import yirgacheffe.compiler.CompilationResult;
+import yirgacheffe.compiler.Compiler;
+import yirgacheffe.compiler.type.BytecodeClassLoader;
+import yirgacheffe.compiler.type.Classes;
+import yirgacheffe.lang.Bootstrap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SequenceTest
+{
+	@Before
+	public void clearMethodCache()
+	{
+		Bootstrap.clearCache();
+	}
+
+	@Test
+	public void testSequence() throws Exception
+	{
+		String filterSource =
+			"class LongWord implements Filter<String>\n" +
+			"{\n" +
+				"public LongWord() {}\n" +
+				"public Bool accept(String word)\n" +
+				"{\n" +
+					"return word.length() > 1;\n" +
+				"}\n" +
+			"}";
+
+		String mappingSource =
+			"class ToTotal implements Mapping<String, Total>\n" +
+			"{\n" +
+				"public ToTotal() {}\n" +
+				"public Total map(String word)\n" +
+				"{\n" +
+					"return new Total(word.length());\n" +
+				"}\n" +
+			"}";
+
+		String totalSource =
+			"class Total implements Combinable<Total>\n" +
+			"{\n" +
+				"Num value;\n" +
+				"public Total(Num value) { this.value = value; }\n" +
+				"public Num getValue() { return this.value; }\n" +
+				"public Total combineWith(Total other)\n" +
+				"{\n" +
+					"return new Total(this.value + other.getValue());\n" +
+				"}\n" +
+			"}";
+
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main method(Array<String> args)\n" +
+				"{\n" +
+					"Array<String> words = " +
+						"new Array<String>(\"a\", \"bb\", \"ccc\", \"dd\", \"eeee\");\n" +
+					"Sequence<String> longWords = " +
+						"new Sequence<String>(words).filter(new LongWord()).take(3);\n" +
+					"Sequence<Total> totals = longWords.map(new ToTotal());\n" +
+					"Total total = new ParallelReduce<Total>(totals).to();\n" +
+					"new IO().getOut().println(longWords.toArray());\n" +
+					"new IO().getOut().println(total.getValue());\n" +
+				"}\n" +
+			"}";
+
+		Classes classes = new Classes();
+
+		Compiler filterCompiler = new Compiler("", filterSource);
+		Compiler mappingCompiler = new Compiler("", mappingSource);
+		Compiler totalCompiler = new Compiler("", totalSource);
+		Compiler compiler = new Compiler("", source);
+
+		filterCompiler.compileClassDeclaration(classes);
+		mappingCompiler.compileClassDeclaration(classes);
+		totalCompiler.compileClassDeclaration(classes);
+		compiler.compileClassDeclaration(classes);
+
+		classes.clearCache();
+
+		filterCompiler.compileInterface(classes);
+		mappingCompiler.compileInterface(classes);
+		totalCompiler.compileInterface(classes);
+		compiler.compileInterface(classes);
+
+		classes.clearCache();
+
+		CompilationResult filterResult = filterCompiler.compile(classes);
+		CompilationResult mappingResult = mappingCompiler.compile(classes);
+		CompilationResult totalResult = totalCompiler.compile(classes);
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(filterResult.isSuccessful());
+		assertTrue(mappingResult.isSuccessful());
+		assertTrue(totalResult.isSuccessful());
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("LongWord", filterResult.getBytecode());
+		classLoader.add("ToTotal", mappingResult.getBytecode());
+		classLoader.add("Total", totalResult.getBytecode());
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method method = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		method.invoke(null, (Object) args);
+
+		assertEquals("[bb, ccc, dd]\n7.0\n", spyOut.toString());
+
+		System.setOut(originalOut);
+	}
+}
@@ -0,0 +1,77 @@
+package yirgacheffe;
+
+import org.junit.Before;
+import org.junit.Test;
+import yirgacheffe.compiler.CompilationResult;
+import yirgacheffe.compiler.Compiler;
+import yirgacheffe.compiler.type.BytecodeClassLoader;
+import yirgacheffe.compiler.type.Classes;
+import yirgacheffe.lang.Bootstrap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VectorTest
+{
+	@Before
+	public void clearMethodCache()
+	{
+		Bootstrap.clearCache();
+	}
+
+	@Test
+	public void testVector() throws Exception
+	{
+		String source =
+			"class MyClass\n" +
+			"{\n" +
+				"main method(Array<String> args)\n" +
+				"{\n" +
+					"Vector<String> empty = new Vector<String>();\n" +
+					"Vector<String> words = empty.push(\"hello\").push(\"world\");\n" +
+					"Vector<String> changed = words.set(1, \"there\");\n" +
+					"new IO().getOut().println(empty);\n" +
+					"new IO().getOut().println(words.concat(changed));\n" +
+					"new IO().getOut().println(changed.get(1));\n" +
+				"}\n" +
+			"}";
+
+		Classes classes = new Classes();
+		Compiler compiler = new Compiler("", source);
+
+		compiler.compileClassDeclaration(classes);
+		classes.clearCache();
+		compiler.compileInterface(classes);
+		classes.clearCache();
+
+		CompilationResult result = compiler.compile(classes);
+
+		assertTrue(result.isSuccessful());
+
+		BytecodeClassLoader classLoader = new BytecodeClassLoader();
+
+		classLoader.add("MyClass", result.getBytecode());
+
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream spyOut = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(spyOut);
+
+		System.setOut(out);
+
+		Class<?> myClass = classLoader.loadClass("MyClass");
+		Method method = myClass.getMethod("main", String[].class);
+		String[] args = {};
+
+		method.invoke(null, (Object) args);
+
+		assertEquals(
+			"[]\n[hello, world, hello, there]\nthere\n",
+			spyOut.toString());
+
+		System.setOut(originalOut);
+	}
+}
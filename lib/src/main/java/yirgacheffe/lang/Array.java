@@ -2,46 +2,66 @@ package yirgacheffe.lang;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class Array<T> implements Iterable<T>
 {
 	private static final int LOG_THIRTY_TWO = 5;
 
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private static final Comparator<Object> NATURAL_ORDER = new Comparator<Object>()
+	{
+		@Override
+		public int compare(Object first, Object second)
+		{
+			return ((Comparable<Object>) first).compareTo(second);
+		}
+	};
+
+	private int head = 0;
+
 	private int length = 0;
 
 	private Object[] array;
 
+	private int modifications = 0;
+
+	private boolean shared = false;
+
 	public static <T> Array<T> fromArray(T[] array)
 	{
 		return new Array<>(array);
 	}
 
+	public static <T> Array<T> withCapacity(int capacity)
+	{
+		if (capacity < 0)
+		{
+			throw new IllegalArgumentException(Integer.toString(capacity));
+		}
+
+		return new Array<>(new Object[capacity], 0);
+	}
+
 	public Array()
 	{
-		this.array = new Object[1 << LOG_THIRTY_TWO];
+		this.array = NO_ELEMENTS;
 	}
 
 	public Array(T... items)
 	{
-		int power = LOG_THIRTY_TWO;
-		int length = items.length >> LOG_THIRTY_TWO;
-
-		while (length > 0)
-		{
-			power++;
-			length = length >> 1;
-		}
-
-		this.array = Arrays.copyOf(items, 1 << power);
-
+		this.array = Arrays.copyOf(items, items.length, Object[].class);
 		this.length = items.length;
 	}
 
 	public Array(Array<T> array)
 	{
-		this.array = Arrays.copyOf(array.array, array.array.length);
-		this.length = array.length;
+		this.array = array.toArray();
+		this.length = this.array.length;
 	}
 
 	public Array(Collection<T> collection)
@@ -50,6 +70,12 @@ public class Array<T> implements Iterable<T>
 		this.length = collection.size();
 	}
 
+	Array(Object[] array, int length)
+	{
+		this.array = array;
+		this.length = length;
+	}
+
 	public int length()
 	{
 		return this.length;
@@ -57,7 +83,7 @@ public class Array<T> implements Iterable<T>
 
 	public String toString()
 	{
-		return Arrays.toString(Arrays.copyOf(this.array, this.length));
+		return Arrays.toString(this.toArray());
 	}
 
 	public String join(String separator)
@@ -66,7 +92,7 @@ public class Array<T> implements Iterable<T>
 
 		for (int i = 0; i < this.length; i++)
 		{
-			strings[i] = this.array[i].toString();
+			strings[i] = this.box(this.head + i).toString();
 		}
 
 		return String.join(separator, strings);
@@ -79,38 +105,52 @@ public class Array<T> implements Iterable<T>
 			throw new ArrayIndexOutOfBoundsException(Integer.toString(index));
 		}
 
-		return (T) this.array[index];
+		return this.box(this.head + index);
 	}
 
 	public void set(int i, T item)
 	{
+		if (i < 0)
+		{
+			throw new ArrayIndexOutOfBoundsException(Integer.toString(i));
+		}
+
+		this.checkItem(item);
+		this.unshare();
+
 		if (i >= this.length)
 		{
 			this.grow(i + 1);
 
 			this.length = i + 1;
+			this.modifications++;
 		}
 
-		this.array[i] = item;
+		this.store(this.head + i, item);
 	}
 
 	public void push(Array<T> items)
 	{
-		this.grow(this.length + items.length);
+		int itemsLength = items.length();
 
-		java.lang.System.arraycopy(
-			items.array, 0, this.array, this.length, items.length);
+		this.unshare();
+		this.grow(this.length + itemsLength);
+		this.insert(items, this.head + this.length);
 
-		this.length = this.length + items.length;
+		this.length = this.length + itemsLength;
+		this.modifications++;
 	}
 
 	public void push(T item)
 	{
+		this.checkItem(item);
+		this.unshare();
 		this.grow(this.length + 1);
 
-		this.array[this.length] = item;
+		this.store(this.head + this.length, item);
 
 		this.length = this.length + 1;
+		this.modifications++;
 	}
 
 	public T pop()
@@ -120,21 +160,41 @@ public class Array<T> implements Iterable<T>
 			throw new ArrayIndexOutOfBoundsException(Integer.toString(-1));
 		}
 
-		int lastIndex = --this.length;
-		T poppedItem = (T) this.array[lastIndex];
-		this.array[lastIndex] = null;
+		int lastIndex = this.head + --this.length;
+		T poppedItem = this.box(lastIndex);
+		this.modifications++;
+
+		if (!this.shared)
+		{
+			this.clear(lastIndex, lastIndex + 1);
+		}
 
 		return poppedItem;
 	}
 
 	public void unshift(T... items)
 	{
-		this.grow(this.length + items.length);
+		for (T item: items)
+		{
+			this.checkItem(item);
+		}
+
+		this.unshare();
 
-		java.lang.System.arraycopy(this.array, 0, this.array, items.length, this.length);
-		java.lang.System.arraycopy(items, 0, this.array, 0, items.length);
+		if (items.length > this.head)
+		{
+			this.growFront(items.length);
+		}
+
+		this.head = this.head - items.length;
+
+		for (int i = 0; i < items.length; i++)
+		{
+			this.store(this.head + i, items[i]);
+		}
 
 		this.length = this.length + items.length;
+		this.modifications++;
 	}
 
 	public T shift()
@@ -144,31 +204,55 @@ public class Array<T> implements Iterable<T>
 			throw new ArrayIndexOutOfBoundsException(Integer.toString(0));
 		}
 
-		T shiftedItem = (T) this.array[0];
+		T shiftedItem = this.box(this.head);
 
-		java.lang.System.arraycopy(this.array, 1, this.array, 0, this.length - 1);
+		if (!this.shared)
+		{
+			this.clear(this.head, this.head + 1);
+		}
 
 		this.length--;
-		this.array[this.length] = null;
+		this.modifications++;
+
+		if (this.length == 0)
+		{
+			this.head = 0;
+		}
+		else
+		{
+			this.head++;
+		}
 
 		return shiftedItem;
 	}
 
 	public void sort()
 	{
-		Arrays.sort(this.array, 0, this.length);
+		this.unshare();
+		this.sortRange(this.head, this.head + this.length);
+		this.modifications++;
+	}
+
+	public void sort(Ordering<T> ordering)
+	{
+		this.unshare();
+		this.sortRange(
+			this.head,
+			this.head + this.length,
+			new OrderingComparator<>(ordering));
+		this.modifications++;
 	}
 
 	public void reverse()
 	{
-		Object[] newArray = new Object[this.array.length];
+		this.unshare();
 
-		for (int i = 0; i < this.length; i++)
+		for (int i = 0; i < this.length / 2; i++)
 		{
-			newArray[i] = this.array[this.length - i - 1];
+			this.swap(this.head + i, this.head + this.length - i - 1);
 		}
 
-		this.array = newArray;
+		this.modifications++;
 	}
 
 	public Array<T> splice(int startIndex)
@@ -200,34 +284,45 @@ public class Array<T> implements Iterable<T>
 			throw new ArrayIndexOutOfBoundsException(Integer.toString(this.length));
 		}
 
-		this.grow(this.length + items.length - deleteCount);
+		for (T item: items)
+		{
+			this.checkItem(item);
+		}
 
-		Object[] deleted = new Object[deleteCount];
+		this.unshare();
+		this.grow(this.length + items.length - deleteCount);
 
-		java.lang.System.arraycopy(this.array, startIndex, deleted, 0, deleteCount);
+		Array<T> deleted = this.copy(startIndex, deleteCount);
+		Object storage = this.storage();
+		int start = this.head + startIndex;
+		int newLength = this.length + items.length - deleteCount;
 
-		java.lang.System.arraycopy(
-			this.array,
-			startIndex + deleteCount,
-			this.array,
-			startIndex + items.length,
+		this.transfer(
+			storage,
+			start + deleteCount,
+			storage,
+			start + items.length,
 			this.length - (startIndex + deleteCount));
 
-		java.lang.System.arraycopy(items, 0, this.array, startIndex, items.length);
+		for (int i = 0; i < items.length; i++)
+		{
+			this.store(start + i, items[i]);
+		}
 
-		for (int i = items.length; i < deleteCount; i++)
+		if (newLength < this.length)
 		{
-			this.array[this.length - deleteCount + i] = null;
+			this.clear(this.head + newLength, this.head + this.length);
 		}
 
-		this.length = this.length + items.length - deleteCount;
+		this.length = newLength;
+		this.modifications++;
 
-		return new Array<T>((T[]) deleted);
+		return deleted;
 	}
 
 	public Array<T> slice()
 	{
-		return new Array<>(this);
+		return this.view(0, this.length);
 	}
 
 	public Array<T> slice(int startIndex)
@@ -259,78 +354,338 @@ public class Array<T> implements Iterable<T>
 
 		if (endIndex <= startIndex)
 		{
-			return new Array<>();
+			return this.create(0);
 		}
 
-		Object[] newArray = new Object[endIndex - startIndex];
-
-		java.lang.System.arraycopy(
-			this.array, startIndex, newArray, 0, endIndex - startIndex);
-
-		return new Array<>((T[]) newArray);
+		return this.view(startIndex, endIndex - startIndex);
 	}
 
 	public Array<T> concat(Array<T> other)
 	{
-		Object[] newArray = new Object[this.length + other.length];
+		Array<T> concatenated = this.create(this.length + other.length());
+
+		this.transfer(
+			this.storage(), this.head, concatenated.storage(), 0, this.length);
 
-		java.lang.System.arraycopy(this.array, 0, newArray, 0, this.length);
-		java.lang.System.arraycopy(other.array, 0, newArray, this.length, other.length);
+		concatenated.insert(other, this.length);
 
-		return new Array<>((T[]) newArray);
+		return concatenated;
 	}
 
 	public int indexOf(T item)
 	{
-		return Arrays.asList(this.array).indexOf(item);
+		return this.search(item);
 	}
 
 	public boolean contains(Object item)
 	{
-		return Arrays.asList(Arrays.copyOf(this.array, this.length)).contains(item);
+		return this.search(item) >= 0;
+	}
+
+	public void trimToSize()
+	{
+		if (this.shared || this.head > 0 || this.length < this.capacity())
+		{
+			Object newStorage = this.allocate(this.length);
+
+			this.transfer(this.storage(), this.head, newStorage, 0, this.length);
+
+			this.replace(newStorage);
+		}
+
+		this.head = 0;
+		this.shared = false;
+	}
+
+	public Array<T> snapshot()
+	{
+		return this.view(0, this.length);
+	}
+
+	Object[] elements()
+	{
+		return this.array;
+	}
+
+	int start()
+	{
+		return this.head;
+	}
+
+	Object storage()
+	{
+		return this.array;
+	}
+
+	int capacity()
+	{
+		return this.array.length;
+	}
+
+	Object allocate(int capacity)
+	{
+		return capacity == 0 ? NO_ELEMENTS : new Object[capacity];
+	}
+
+	void replace(Object storage)
+	{
+		this.array = (Object[]) storage;
+	}
+
+	T box(int index)
+	{
+		return (T) this.array[index];
+	}
+
+	void store(int index, Object item)
+	{
+		this.array[index] = item;
+	}
+
+	void clear(int from, int to)
+	{
+		Arrays.fill(this.array, from, to, null);
+	}
+
+	void checkItem(Object item)
+	{
+	}
+
+	void swap(int first, int second)
+	{
+		Object item = this.array[first];
+
+		this.array[first] = this.array[second];
+		this.array[second] = item;
+	}
+
+	void sortRange(int from, int to)
+	{
+		this.sortRange(from, to, NATURAL_ORDER);
+	}
+
+	void sortRange(int from, int to, Comparator<Object> comparator)
+	{
+		Arrays.parallelSort(this.array, from, to, comparator);
+	}
+
+	int find(Object item, int from, int to)
+	{
+		for (int i = from; i < to; i++)
+		{
+			Object element = this.array[i];
+
+			if (item == null ? element == null : item.equals(element))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	Array<T> create(int length)
+	{
+		return new Array<>((Object[]) this.allocate(length), length);
+	}
+
+	boolean shareable()
+	{
+		return true;
+	}
+
+	void transfer(
+		Object source,
+		int sourceIndex,
+		Object target,
+		int targetIndex,
+		int count)
+	{
+		java.lang.System.arraycopy(source, sourceIndex, target, targetIndex, count);
+	}
+
+	private void insert(Array<T> items, int index)
+	{
+		int itemsLength = items.length();
+
+		if (items.getClass() == this.getClass())
+		{
+			this.transfer(
+				items.storage(), items.head, this.storage(), index, itemsLength);
+
+			return;
+		}
+
+		Object[] elements = items.toArray();
+
+		for (Object element: elements)
+		{
+			this.checkItem(element);
+		}
+
+		for (int i = 0; i < itemsLength; i++)
+		{
+			this.store(index + i, elements[i]);
+		}
+	}
+
+	private Array<T> copy(int startIndex, int length)
+	{
+		Array<T> copy = this.create(length);
+
+		this.transfer(
+			this.storage(), this.head + startIndex, copy.storage(), 0, length);
+
+		return copy;
+	}
+
+	private Array<T> view(int startIndex, int length)
+	{
+		if (!this.shareable())
+		{
+			return this.copy(startIndex, length);
+		}
+
+		Array<T> view = this.create(0);
+
+		view.replace(this.storage());
+		view.head = this.head + startIndex;
+		view.length = length;
+		view.shared = true;
+		this.shared = true;
+
+		return view;
+	}
+
+	private void unshare()
+	{
+		if (!this.shared)
+		{
+			return;
+		}
+
+		int newCapacity = 1 << LOG_THIRTY_TWO;
+
+		while (newCapacity <= this.length)
+		{
+			newCapacity = newCapacity << 1;
+		}
+
+		Object newStorage = this.allocate(newCapacity);
+
+		this.transfer(this.storage(), this.head, newStorage, 0, this.length);
+
+		this.replace(newStorage);
+		this.head = 0;
+		this.shared = false;
+	}
+
+	private int search(Object item)
+	{
+		int index = this.find(item, this.head, this.head + this.length);
+
+		return index < 0 ? index : index - this.head;
 	}
 
 	private void grow(int minimum)
 	{
-		int newLength = this.array.length;
+		int capacity = this.capacity();
 
-		while (newLength <= minimum)
+		if (this.head + minimum <= capacity)
 		{
-			newLength = newLength << 1;
+			return;
+		}
+
+		Object storage = this.storage();
+
+		if (minimum < capacity >> 1)
+		{
+			this.transfer(storage, this.head, storage, 0, this.length);
+			this.clear(Math.max(this.head, this.length), this.head + this.length);
+		}
+		else
+		{
+			int newCapacity = Math.max(capacity << 1, 1 << LOG_THIRTY_TWO);
+
+			while (newCapacity <= minimum)
+			{
+				newCapacity = newCapacity << 1;
+			}
+
+			Object newStorage = this.allocate(newCapacity);
+
+			this.transfer(storage, this.head, newStorage, 0, this.length);
+
+			this.replace(newStorage);
 		}
 
-		if (newLength > this.array.length)
+		this.head = 0;
+	}
+
+	private void growFront(int count)
+	{
+		int minimum = this.length + count;
+		int newCapacity = Math.max(this.capacity(), 1 << LOG_THIRTY_TWO);
+
+		while (newCapacity < minimum << 1)
 		{
-			this.array = Arrays.copyOf(this.array, newLength);
+			newCapacity = newCapacity << 1;
 		}
+
+		Object newStorage = this.allocate(newCapacity);
+		int newHead = count + (newCapacity - minimum) / 2;
+
+		this.transfer(this.storage(), this.head, newStorage, newHead, this.length);
+
+		this.replace(newStorage);
+		this.head = newHead;
 	}
 
 	@Override
 	public Iterator<T> iterator()
 	{
-		final Object[] array = Arrays.copyOf(this.array, this.length);
+		final Array<T> array = this;
 
 		return new Iterator<T>()
 		{
 			private int index = 0;
 
+			private int expectedModifications = array.modifications;
+
 			@Override
 			public boolean hasNext()
 			{
-				return this.index < array.length;
+				return this.index < array.length();
 			}
 
 			@Override
 			public T next()
 			{
-				return (T) array[this.index++];
+				if (array.modifications != this.expectedModifications)
+				{
+					throw new ConcurrentModificationException();
+				}
+
+				if (this.index >= array.length())
+				{
+					throw new NoSuchElementException();
+				}
+
+				return array.get(this.index++);
 			}
 		};
 	}
 
 	public Object[] toArray()
 	{
-		return Arrays.copyOf(this.array, this.length);
+		Object[] items = new Object[this.length];
+
+		for (int i = 0; i < this.length; i++)
+		{
+			items[i] = this.box(this.head + i);
+		}
+
+		return items;
 	}
 
 	@Override
@@ -347,7 +702,7 @@ public class Array<T> implements Iterable<T>
 
 			for (int i = 0; i < this.length; i++)
 			{
-				if (!this.array[i].equals(array.get(i)))
+				if (!this.box(this.head + i).equals(array.get(i)))
 				{
 					return false;
 				}
@@ -364,8 +719,10 @@ public class Array<T> implements Iterable<T>
 	{
 		int hashCode = 0;
 
-		for (Object object: this.array)
+		for (int i = 0; i < this.length; i++)
 		{
+			Object object = this.box(this.head + i);
+
 			if (object != null)
 			{
 				hashCode += object.hashCode();
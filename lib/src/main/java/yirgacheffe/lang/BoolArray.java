@@ -0,0 +1,122 @@
+package yirgacheffe.lang;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class BoolArray extends PrimitiveArray<Boolean>
+{
+	private boolean[] array;
+
+	public BoolArray()
+	{
+		this(0);
+	}
+
+	public BoolArray(boolean... items)
+	{
+		this(items.length);
+
+		java.lang.System.arraycopy(items, 0, this.array, 0, items.length);
+	}
+
+	public BoolArray(Array<Boolean> array)
+	{
+		this(0);
+
+		this.push(array);
+	}
+
+	public BoolArray(Collection<Boolean> collection)
+	{
+		this(0);
+
+		for (Boolean item: collection)
+		{
+			this.push(item);
+		}
+	}
+
+	private BoolArray(int length)
+	{
+		super(length);
+
+		this.array = new boolean[length];
+	}
+
+	Object storage()
+	{
+		return this.array;
+	}
+
+	int capacity()
+	{
+		return this.array.length;
+	}
+
+	Object allocate(int capacity)
+	{
+		return new boolean[capacity];
+	}
+
+	void replace(Object storage)
+	{
+		this.array = (boolean[]) storage;
+	}
+
+	Boolean box(int index)
+	{
+		return this.array[index];
+	}
+
+	void store(int index, Object item)
+	{
+		this.array[index] = (Boolean) item;
+	}
+
+	void swap(int first, int second)
+	{
+		boolean item = this.array[first];
+
+		this.array[first] = this.array[second];
+		this.array[second] = item;
+	}
+
+	void sortRange(int from, int to)
+	{
+		int falseCount = 0;
+
+		for (int i = from; i < to; i++)
+		{
+			if (!this.array[i])
+			{
+				falseCount++;
+			}
+		}
+
+		Arrays.fill(this.array, from, from + falseCount, false);
+		Arrays.fill(this.array, from + falseCount, to, true);
+	}
+
+	int find(Object item, int from, int to)
+	{
+		if (item instanceof Boolean)
+		{
+			boolean value = (Boolean) item;
+
+			for (int i = from; i < to; i++)
+			{
+				if (this.array[i] == value)
+				{
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	PrimitiveArray<Boolean> create(int length)
+	{
+		return new BoolArray(length);
+	}
+}
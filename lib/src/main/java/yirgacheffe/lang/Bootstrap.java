@@ -11,20 +11,35 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public final class Bootstrap
 {
 	private static final int THOUSAND = 1024;
 
+	private static final int DEFAULT_INLINE_CACHE_DEPTH = 4;
+
+	private static final int INLINE_CACHE_DEPTH =
+		Integer.getInteger(
+			"yirgacheffe.inlineCacheDepth",
+			DEFAULT_INLINE_CACHE_DEPTH);
+
 	private static final MethodHandle DISPATCHER;
 
+	private static final MethodHandle METERED_DISPATCHER;
+
+	private static final MethodHandle NOTHING;
+
+	private static final MethodHandle IS_NULL;
+
 	static
 	{
 		try
 		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
 			MethodType dispatcherType =
 				MethodType.methodType(
 					MethodHandle.class,
@@ -35,10 +50,28 @@ public final class Bootstrap
 					Object[].class);
 
 			DISPATCHER =
-				MethodHandles.lookup().findStatic(
+				lookup.findStatic(
 					Bootstrap.class,
 					"runtimeDispatcher",
 					dispatcherType);
+
+			METERED_DISPATCHER =
+				lookup.findVirtual(
+					CallSiteMetrics.class,
+					"dispatch",
+					dispatcherType);
+
+			NOTHING =
+				lookup.findStatic(
+					Bootstrap.class,
+					"giveNothing",
+					MethodType.methodType(Object.class, Object[].class));
+
+			IS_NULL =
+				lookup.findStatic(
+					Objects.class,
+					"isNull",
+					MethodType.methodType(boolean.class, Object.class));
 		}
 		catch (NoSuchMethodException | IllegalAccessException ex)
 		{
@@ -46,7 +79,8 @@ public final class Bootstrap
 		}
 	}
 
-	private static Map<String, MethodHandle> methodHandles = new HashMap<>();
+	private static volatile ClassValue<DispatchTable> dispatchTables =
+		new DispatchTables();
 
 	private static Map<Class<?>, Class<?>> primitiveTypes = new HashMap<>();
 
@@ -68,7 +102,7 @@ public final class Bootstrap
 		numberTypes.add(double.class);
 	}
 
-	private static Map<Object, Class<?>[]> objectSignature = new IdentityHashMap<>();
+	private static ObjectSignatures objectSignatures = new ObjectSignatures();
 
 	private Bootstrap()
 	{
@@ -76,25 +110,7 @@ public final class Bootstrap
 
 	public static void cacheObjectSignature(Object object, String signature)
 	{
-		if (!objectSignature.containsKey(object))
-		{
-			ClassLoader classLoader = Bootstrap.class.getClassLoader();
-			String[] parameterTypes = signature.split(",");
-			Class<?>[] parameterClasses = new Class<?>[parameterTypes.length];
-
-			try
-			{
-				for (int i = 0; i < parameterClasses.length; i++)
-				{
-					parameterClasses[i] = classLoader.loadClass(parameterTypes[i]);
-				}
-			}
-			catch (ClassNotFoundException ignore)
-			{
-			}
-
-			objectSignature.put(object, parameterClasses);
-		}
+		objectSignatures.put(object, signature);
 	}
 
 	public static CallSite bootstrapPublic(
@@ -119,8 +135,45 @@ public final class Bootstrap
 		MethodType type,
 		boolean isPrivate)
 	{
-		MethodHandle dispatcher =
-			MethodHandles.insertArguments(DISPATCHER, 0, lookup, name, isPrivate)
+		CallSiteMetrics metrics =
+			DispatchMetrics.ENABLED ?
+				new CallSiteMetrics(lookup.lookupClass(), name) : null;
+
+		if (INLINE_CACHE_DEPTH > 0)
+		{
+			return new InlineCacheCallSite(
+				lookup,
+				name,
+				type,
+				isPrivate,
+				INLINE_CACHE_DEPTH,
+				metrics);
+		}
+		else
+		{
+			return new ConstantCallSite(
+				megamorphicTarget(lookup, name, type, isPrivate, metrics));
+		}
+	}
+
+	static MethodHandle megamorphicTarget(
+		MethodHandles.Lookup lookup,
+		String name,
+		MethodType type,
+		boolean isPrivate,
+		CallSiteMetrics metrics)
+	{
+		MethodHandle dispatcher = DISPATCHER;
+
+		if (metrics != null)
+		{
+			metrics.megamorphic();
+
+			dispatcher = METERED_DISPATCHER.bindTo(metrics);
+		}
+
+		dispatcher =
+			MethodHandles.insertArguments(dispatcher, 0, lookup, name, isPrivate)
 				.asCollector(Object[].class, type.parameterCount() - 1);
 
 		MethodType dispatcherType = dispatcher.type();
@@ -132,13 +185,39 @@ public final class Bootstrap
 
 		dispatcher = dispatcher.asType(dispatcherType);
 
-		MethodHandle target =
-			MethodHandles.foldArguments(MethodHandles.invoker(type), dispatcher);
+		return guardNothing(
+			type,
+			MethodHandles.foldArguments(MethodHandles.invoker(type), dispatcher));
+	}
+
+	static MethodHandle guardNothing(MethodType type, MethodHandle target)
+	{
+		MethodHandle nothing = NOTHING.asType(type);
+		MethodHandle guarded = target;
+
+		for (int i = type.parameterCount() - 1; i >= 0; i--)
+		{
+			Class<?> parameterType = type.parameterType(i);
+
+			if (!parameterType.isPrimitive())
+			{
+				MethodHandle test =
+					IS_NULL.asType(MethodType.methodType(boolean.class, parameterType));
 
-		return new ConstantCallSite(target);
+				test =
+					MethodHandles.dropArguments(
+						test,
+						0,
+						type.parameterList().subList(0, i));
+
+				guarded = MethodHandles.guardWithTest(test, nothing, guarded);
+			}
+		}
+
+		return guarded;
 	}
 
-	private static MethodHandle runtimeDispatcher(
+	static MethodHandle runtimeDispatcher(
 		MethodHandles.Lookup lookup,
 		String methodName,
 		boolean isPrivate,
@@ -147,24 +226,24 @@ public final class Bootstrap
 	{
 		if (receiver == null)
 		{
-			return lookup.unreflect(
-				Bootstrap.class.getMethod("giveNothing", Object[].class));
+			return NOTHING;
 		}
 
 		for (Object argument: arguments)
 		{
 			if (argument == null)
 			{
-				return lookup.unreflect(
-					Bootstrap.class.getMethod("giveNothing", Object[].class));
+				return NOTHING;
 			}
 		}
 
-		String methodString = stringify(methodName, isPrivate, receiver, arguments);
+		DispatchNode dispatchNode =
+			dispatchTables.get(receiver.getClass())
+				.get(methodName, isPrivate, arguments);
 
-		if (methodHandles.containsKey(methodString))
+		if (dispatchNode.getMethodHandle() != null)
 		{
-			return methodHandles.get(methodString);
+			return dispatchNode.getMethodHandle();
 		}
 
 		Method[] methods = receiver.getClass().getMethods();
@@ -193,8 +272,12 @@ public final class Bootstrap
 				arguments.length == parameterTypes.length)
 			{
 				int matching = evaluateMatching(parameterTypes, arguments);
+				boolean breaksTie =
+					matchedMethod != null &&
+					matching == bestMatching &&
+					isMoreSpecific(method, matchedMethod);
 
-				if (matching > bestMatching)
+				if (matching > bestMatching || breaksTie)
 				{
 					bestMatching = matching;
 					matchedMethod = method;
@@ -220,7 +303,7 @@ public final class Bootstrap
 
 		MethodHandle methodHandle = lookup.unreflect(matchedMethod);
 
-		methodHandles.put(methodString, methodHandle);
+		dispatchNode.setMethodHandle(methodHandle);
 
 		return methodHandle;
 	}
@@ -240,10 +323,16 @@ public final class Bootstrap
 				ParameterizedType parameterizedType = (ParameterizedType) parameter;
 				Type[] typeArguments = parameterizedType.getActualTypeArguments();
 
-				if (objectSignature.containsKey(argumentReference) &&
-					argumentsAreAssignable(
-					objectSignature.get(argumentReference),
-					typeArguments))
+				Class<?>[] signature = objectSignatures.get(argumentReference);
+
+				if (signature == null)
+				{
+					signature =
+						getImplementedSignature(argument, parameterizedType.getRawType());
+				}
+
+				if (signature != null &&
+					argumentsAreAssignable(signature, typeArguments))
 				{
 					Type rawType = parameterizedType.getRawType();
 
@@ -256,6 +345,10 @@ public final class Bootstrap
 					{
 						matching += THOUSAND;
 					}
+					else
+					{
+						matching += 1;
+					}
 				}
 				else
 				{
@@ -301,12 +394,20 @@ public final class Bootstrap
 		return matching;
 	}
 
-	private static boolean argumentsAreAssignable(Class<?>[] arguments, Type[] parameters)
+	private static boolean isMoreSpecific(Method method, Method other)
 	{
-		for (int i = 0; i < arguments.length; i++)
+		Class<?>[] parameters =
+			MethodType.methodType(void.class, method.getParameterTypes())
+				.wrap()
+				.parameterArray();
+		Class<?>[] otherParameters =
+			MethodType.methodType(void.class, other.getParameterTypes())
+				.wrap()
+				.parameterArray();
+
+		for (int i = 0; i < parameters.length; i++)
 		{
-			if (parameters[i] instanceof Class &&
-				!((Class<?>) parameters[i]).isAssignableFrom(arguments[i]))
+			if (!otherParameters[i].isAssignableFrom(parameters[i]))
 			{
 				return false;
 			}
@@ -315,22 +416,97 @@ public final class Bootstrap
 		return true;
 	}
 
-	private static String stringify(
-		String methodName,
-		boolean isPrivate,
-		Object receiver,
-		Object[] arguments)
+	private static Class<?>[] getImplementedSignature(Class<?> type, Type rawType)
 	{
-		StringBuilder stringBuilder = new StringBuilder(methodName);
-		stringBuilder.append(isPrivate);
-		stringBuilder.append(receiver.getClass().getName());
+		return getImplementedSignature(type, rawType, new HashMap<>());
+	}
 
-		for (Object argument: arguments)
+	private static Class<?>[] getImplementedSignature(
+		Type type,
+		Type rawType,
+		Map<TypeVariable<?>, Type> bindings)
+	{
+		if (type instanceof ParameterizedType)
 		{
-			stringBuilder.append(argument.getClass().getName());
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			Class<?> rawClass = (Class<?>) parameterizedType.getRawType();
+			Type[] typeArguments = parameterizedType.getActualTypeArguments();
+			TypeVariable<?>[] typeParameters = rawClass.getTypeParameters();
+			Map<TypeVariable<?>, Type> supertypeBindings = new HashMap<>();
+			Class<?>[] signature = new Class<?>[typeArguments.length];
+
+			for (int i = 0; i < typeArguments.length; i++)
+			{
+				Type typeArgument =
+					bindings.getOrDefault(typeArguments[i], typeArguments[i]);
+
+				supertypeBindings.put(typeParameters[i], typeArgument);
+				signature[i] = getSignatureClass(typeArgument);
+			}
+
+			if (rawClass.equals(rawType))
+			{
+				return signature;
+			}
+
+			return getInheritedSignature(rawClass, rawType, supertypeBindings);
 		}
+		else if (type instanceof Class)
+		{
+			return getInheritedSignature((Class<?>) type, rawType, new HashMap<>());
+		}
+		else
+		{
+			return null;
+		}
+	}
+
+	private static Class<?>[] getInheritedSignature(
+		Class<?> type,
+		Type rawType,
+		Map<TypeVariable<?>, Type> bindings)
+	{
+		for (Type supertype: type.getGenericInterfaces())
+		{
+			Class<?>[] signature = getImplementedSignature(supertype, rawType, bindings);
 
-		return stringBuilder.toString();
+			if (signature != null)
+			{
+				return signature;
+			}
+		}
+
+		return getImplementedSignature(type.getGenericSuperclass(), rawType, bindings);
+	}
+
+	private static Class<?> getSignatureClass(Type type)
+	{
+		if (type instanceof Class)
+		{
+			return (Class<?>) type;
+		}
+		else if (type instanceof ParameterizedType)
+		{
+			return (Class<?>) ((ParameterizedType) type).getRawType();
+		}
+		else
+		{
+			return Object.class;
+		}
+	}
+
+	private static boolean argumentsAreAssignable(Class<?>[] arguments, Type[] parameters)
+	{
+		for (int i = 0; i < arguments.length; i++)
+		{
+			if (parameters[i] instanceof Class &&
+				!((Class<?>) parameters[i]).isAssignableFrom(arguments[i]))
+			{
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	public static Object giveNothing(Object... args)
@@ -340,6 +516,6 @@ public final class Bootstrap
 
 	public static void clearCache()
 	{
-		methodHandles = new HashMap<>();
+		dispatchTables = new DispatchTables();
 	}
 }
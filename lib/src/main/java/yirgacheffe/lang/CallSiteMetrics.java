@@ -0,0 +1,178 @@
+package yirgacheffe.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class CallSiteMetrics implements CallSiteMetricsMXBean
+{
+	private String className;
+
+	private String methodName;
+
+	private volatile String location;
+
+	private LongAdder links = new LongAdder();
+
+	private LongAdder hits = new LongAdder();
+
+	private LongAdder misses = new LongAdder();
+
+	private LongAdder dispatchNanoseconds = new LongAdder();
+
+	private Set<String> shapes = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean isMegamorphic = false;
+
+	CallSiteMetrics(Class<?> caller, String methodName)
+	{
+		this.className = caller.getName();
+		this.methodName = methodName;
+	}
+
+	MethodHandle dispatch(
+		MethodHandles.Lookup lookup,
+		String name,
+		boolean isPrivate,
+		Object receiver,
+		Object[] arguments) throws Throwable
+	{
+		if (this.location == null)
+		{
+			this.locate();
+		}
+
+		this.misses.increment();
+		this.shapes.add(this.shape(receiver, arguments));
+
+		long startTime = java.lang.System.nanoTime();
+
+		try
+		{
+			return Bootstrap.runtimeDispatcher(
+				lookup,
+				name,
+				isPrivate,
+				receiver,
+				arguments);
+		}
+		finally
+		{
+			this.dispatchNanoseconds.add(java.lang.System.nanoTime() - startTime);
+		}
+	}
+
+	private String shape(Object receiver, Object[] arguments)
+	{
+		StringBuilder shape = new StringBuilder(receiver.getClass().getName());
+
+		shape.append('(');
+
+		for (int i = 0; i < arguments.length; i++)
+		{
+			shape.append(i == 0 ? "" : ",").append(arguments[i].getClass().getName());
+		}
+
+		return shape.append(')').toString();
+	}
+
+	void hit()
+	{
+		this.hits.increment();
+	}
+
+	void link()
+	{
+		this.links.increment();
+	}
+
+	void megamorphic()
+	{
+		this.isMegamorphic = true;
+	}
+
+	private synchronized void locate()
+	{
+		if (this.location != null)
+		{
+			return;
+		}
+
+		String location = this.className;
+
+		for (StackTraceElement element: new Throwable().getStackTrace())
+		{
+			if (element.getClassName().equals(this.className))
+			{
+				String fileName = element.getFileName();
+
+				if (fileName == null || fileName.length() == 0)
+				{
+					fileName = this.className;
+				}
+
+				location = fileName + ':' + element.getLineNumber();
+
+				break;
+			}
+		}
+
+		this.location = location;
+
+		DispatchMetrics.register(this);
+	}
+
+	public String getLocation()
+	{
+		return this.location;
+	}
+
+	public String getMethodName()
+	{
+		return this.methodName;
+	}
+
+	public long getLinks()
+	{
+		return this.links.sum();
+	}
+
+	public long getHits()
+	{
+		return this.hits.sum();
+	}
+
+	public long getMisses()
+	{
+		return this.misses.sum();
+	}
+
+	public int getShapes()
+	{
+		return this.shapes.size();
+	}
+
+	public long getDispatchNanoseconds()
+	{
+		return this.dispatchNanoseconds.sum();
+	}
+
+	public boolean isMegamorphic()
+	{
+		return this.isMegamorphic;
+	}
+
+	@Override
+	public String toString()
+	{
+		return this.location + ' ' + this.methodName +
+			" links=" + this.getLinks() +
+			" hits=" + this.getHits() +
+			" misses=" + this.getMisses() +
+			" shapes=" + this.getShapes() +
+			" dispatch=" + this.getDispatchNanoseconds() + "ns" +
+			(this.isMegamorphic ? " megamorphic" : "");
+	}
+}
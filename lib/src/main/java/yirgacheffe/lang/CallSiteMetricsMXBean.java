@@ -0,0 +1,20 @@
+package yirgacheffe.lang;
+
+public interface CallSiteMetricsMXBean
+{
+	String getLocation();
+
+	String getMethodName();
+
+	long getLinks();
+
+	long getHits();
+
+	long getMisses();
+
+	int getShapes();
+
+	long getDispatchNanoseconds();
+
+	boolean isMegamorphic();
+}
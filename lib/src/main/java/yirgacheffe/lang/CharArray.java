@@ -0,0 +1,111 @@
+package yirgacheffe.lang;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class CharArray extends PrimitiveArray<Character>
+{
+	private char[] array;
+
+	public CharArray()
+	{
+		this(0);
+	}
+
+	public CharArray(char... items)
+	{
+		this(items.length);
+
+		java.lang.System.arraycopy(items, 0, this.array, 0, items.length);
+	}
+
+	public CharArray(Array<Character> array)
+	{
+		this(0);
+
+		this.push(array);
+	}
+
+	public CharArray(Collection<Character> collection)
+	{
+		this(0);
+
+		for (Character item: collection)
+		{
+			this.push(item);
+		}
+	}
+
+	private CharArray(int length)
+	{
+		super(length);
+
+		this.array = new char[length];
+	}
+
+	Object storage()
+	{
+		return this.array;
+	}
+
+	int capacity()
+	{
+		return this.array.length;
+	}
+
+	Object allocate(int capacity)
+	{
+		return new char[capacity];
+	}
+
+	void replace(Object storage)
+	{
+		this.array = (char[]) storage;
+	}
+
+	Character box(int index)
+	{
+		return this.array[index];
+	}
+
+	void store(int index, Object item)
+	{
+		this.array[index] = (Character) item;
+	}
+
+	void swap(int first, int second)
+	{
+		char item = this.array[first];
+
+		this.array[first] = this.array[second];
+		this.array[second] = item;
+	}
+
+	void sortRange(int from, int to)
+	{
+		Arrays.parallelSort(this.array, from, to);
+	}
+
+	int find(Object item, int from, int to)
+	{
+		if (item instanceof Character)
+		{
+			char value = (Character) item;
+
+			for (int i = from; i < to; i++)
+			{
+				if (this.array[i] == value)
+				{
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	PrimitiveArray<Character> create(int length)
+	{
+		return new CharArray(length);
+	}
+}
@@ -0,0 +1,226 @@
+package yirgacheffe.lang;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+public final class DirectNumArray extends PrimitiveArray<Double>
+{
+	private DoubleBuffer array;
+
+	private DoubleBuffer mapping;
+
+	public DirectNumArray()
+	{
+		this(0);
+	}
+
+	public DirectNumArray(double... items)
+	{
+		this(items.length);
+
+		this.array.duplicate().put(items);
+	}
+
+	public DirectNumArray(String path) throws IOException
+	{
+		this(map(path, FileChannel.MapMode.READ_WRITE));
+	}
+
+	private DirectNumArray(int length)
+	{
+		super(length);
+
+		this.array = (DoubleBuffer) this.allocate(length);
+	}
+
+	private DirectNumArray(DoubleBuffer array)
+	{
+		super(array.capacity());
+
+		this.array = array;
+		this.mapping = array;
+	}
+
+	private static DoubleBuffer map(String path, FileChannel.MapMode mode)
+		throws IOException
+	{
+		StandardOpenOption[] options =
+			mode == FileChannel.MapMode.READ_ONLY ?
+				new StandardOpenOption[] {StandardOpenOption.READ} :
+				new StandardOpenOption[] {
+					StandardOpenOption.READ,
+					StandardOpenOption.WRITE
+				};
+
+		try (FileChannel channel = FileChannel.open(Paths.get(path), options))
+		{
+			long size = channel.size() - channel.size() % Double.BYTES;
+
+			return channel.map(mode, 0, size).asDoubleBuffer();
+		}
+	}
+
+	public void load(String path) throws IOException
+	{
+		this.push(new DirectNumArray(map(path, FileChannel.MapMode.READ_ONLY)));
+	}
+
+	Object storage()
+	{
+		return this.array;
+	}
+
+	int capacity()
+	{
+		return this.array.capacity();
+	}
+
+	Object allocate(int capacity)
+	{
+		long bytes = (long) capacity * Double.BYTES;
+
+		if (bytes > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException(Integer.toString(capacity));
+		}
+
+		return ByteBuffer.allocateDirect((int) bytes).asDoubleBuffer();
+	}
+
+	boolean shareable()
+	{
+		return this.array != this.mapping;
+	}
+
+	void replace(Object storage)
+	{
+		this.array = (DoubleBuffer) storage;
+	}
+
+	Double box(int index)
+	{
+		return this.array.get(index);
+	}
+
+	void store(int index, Object item)
+	{
+		this.array.put(index, ((Number) item).doubleValue());
+	}
+
+	void swap(int first, int second)
+	{
+		double item = this.array.get(first);
+
+		this.array.put(first, this.array.get(second));
+		this.array.put(second, item);
+	}
+
+	void sortRange(int from, int to)
+	{
+		int length = to - from;
+
+		for (int i = length / 2 - 1; i >= 0; i--)
+		{
+			this.siftDown(from, i, length);
+		}
+
+		for (int end = length - 1; end > 0; end--)
+		{
+			this.swap(from, from + end);
+			this.siftDown(from, 0, end);
+		}
+	}
+
+	int find(Object item, int from, int to)
+	{
+		if (item instanceof Number)
+		{
+			double value = ((Number) item).doubleValue();
+
+			for (int i = from; i < to; i++)
+			{
+				if (Double.compare(this.array.get(i), value) == 0)
+				{
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	PrimitiveArray<Double> create(int length)
+	{
+		return new DirectNumArray(length);
+	}
+
+	@Override
+	void transfer(
+		Object source,
+		int sourceIndex,
+		Object target,
+		int targetIndex,
+		int count)
+	{
+		DoubleBuffer from = (DoubleBuffer) source;
+		DoubleBuffer to = (DoubleBuffer) target;
+
+		if (from == to && targetIndex > sourceIndex)
+		{
+			for (int i = count - 1; i >= 0; i--)
+			{
+				to.put(targetIndex + i, from.get(sourceIndex + i));
+			}
+		}
+		else if (from == to)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				to.put(targetIndex + i, from.get(sourceIndex + i));
+			}
+		}
+		else
+		{
+			DoubleBuffer items = from.duplicate();
+			DoubleBuffer destination = to.duplicate();
+
+			items.limit(sourceIndex + count);
+			items.position(sourceIndex);
+			destination.position(targetIndex);
+			destination.put(items);
+		}
+	}
+
+	private void siftDown(int from, int index, int length)
+	{
+		int parent = index;
+		int child = 2 * parent + 1;
+
+		while (child < length)
+		{
+			if (child + 1 < length &&
+				Double.compare(
+					this.array.get(from + child),
+					this.array.get(from + child + 1)) < 0)
+			{
+				child++;
+			}
+
+			double parentItem = this.array.get(from + parent);
+
+			if (Double.compare(parentItem, this.array.get(from + child)) >= 0)
+			{
+				return;
+			}
+
+			this.swap(from + parent, from + child);
+
+			parent = child;
+			child = 2 * parent + 1;
+		}
+	}
+}
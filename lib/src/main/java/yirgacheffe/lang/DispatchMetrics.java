@@ -0,0 +1,87 @@
+package yirgacheffe.lang;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class DispatchMetrics
+{
+	static final boolean ENABLED = Boolean.getBoolean("yirgacheffe.dispatchMetrics");
+
+	private static Queue<CallSiteMetrics> callSites = new ConcurrentLinkedQueue<>();
+
+	private static AtomicInteger registrations = new AtomicInteger();
+
+	static
+	{
+		if (ENABLED)
+		{
+			Runtime.getRuntime().addShutdownHook(new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					java.lang.System.err.print(DispatchMetrics.report());
+				}
+			}));
+		}
+	}
+
+	private DispatchMetrics()
+	{
+	}
+
+	static void register(CallSiteMetrics metrics)
+	{
+		callSites.add(metrics);
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		String name =
+			metrics.getLocation() + ' ' + metrics.getMethodName() +
+			" #" + registrations.incrementAndGet();
+
+		try
+		{
+			ObjectName objectName =
+				new ObjectName(
+					"yirgacheffe:type=CallSite,name=" + ObjectName.quote(name));
+
+			server.registerMBean(metrics, objectName);
+		}
+		catch (JMException ex)
+		{
+			java.lang.System.err.println("Could not register " + name + ": " + ex);
+		}
+	}
+
+	static String report()
+	{
+		List<CallSiteMetrics> metrics = new ArrayList<>(callSites);
+
+		Collections.sort(metrics, new Comparator<CallSiteMetrics>()
+		{
+			@Override
+			public int compare(CallSiteMetrics first, CallSiteMetrics second)
+			{
+				return Long.compare(second.getMisses(), first.getMisses());
+			}
+		});
+
+		StringBuilder report = new StringBuilder();
+
+		for (CallSiteMetrics callSite: metrics)
+		{
+			report.append(callSite).append('\n');
+		}
+
+		return report.toString();
+	}
+}
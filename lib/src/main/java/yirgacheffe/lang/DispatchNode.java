@@ -0,0 +1,66 @@
+package yirgacheffe.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+final class DispatchNode
+{
+	static final Function<Object, DispatchNode> NEW_NODE =
+		new Function<Object, DispatchNode>()
+		{
+			public DispatchNode apply(Object key)
+			{
+				return new DispatchNode();
+			}
+		};
+
+	private ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private Map<IdentityWeakReference, DispatchNode> children =
+		new ConcurrentHashMap<>();
+
+	private volatile MethodHandle methodHandle;
+
+	DispatchNode get(Class<?> argumentClass)
+	{
+		DispatchNode node = this.children.get(new IdentityWeakReference(argumentClass));
+
+		if (node == null)
+		{
+			this.expungeStaleEntries();
+
+			IdentityWeakReference key =
+				new IdentityWeakReference(argumentClass, this.queue);
+
+			node = this.children.computeIfAbsent(key, NEW_NODE);
+		}
+
+		return node;
+	}
+
+	MethodHandle getMethodHandle()
+	{
+		return this.methodHandle;
+	}
+
+	void setMethodHandle(MethodHandle methodHandle)
+	{
+		this.methodHandle = methodHandle;
+	}
+
+	private void expungeStaleEntries()
+	{
+		Reference<?> reference = this.queue.poll();
+
+		while (reference != null)
+		{
+			this.children.remove(reference);
+
+			reference = this.queue.poll();
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package yirgacheffe.lang;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class DispatchTable
+{
+	private Map<String, DispatchNode> publicMethods = new ConcurrentHashMap<>();
+
+	private Map<String, DispatchNode> privateMethods = new ConcurrentHashMap<>();
+
+	DispatchNode get(String methodName, boolean isPrivate, Object[] arguments)
+	{
+		Map<String, DispatchNode> methods =
+			isPrivate ? this.privateMethods : this.publicMethods;
+
+		DispatchNode node = methods.computeIfAbsent(methodName, DispatchNode.NEW_NODE);
+
+		for (Object argument: arguments)
+		{
+			node = node.get(argument.getClass());
+		}
+
+		return node;
+	}
+}
@@ -0,0 +1,10 @@
+package yirgacheffe.lang;
+
+final class DispatchTables extends ClassValue<DispatchTable>
+{
+	@Override
+	protected DispatchTable computeValue(Class<?> type)
+	{
+		return new DispatchTable();
+	}
+}
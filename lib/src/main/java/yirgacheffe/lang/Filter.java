@@ -0,0 +1,6 @@
+package yirgacheffe.lang;
+
+public interface Filter<T>
+{
+	boolean accept(T item);
+}
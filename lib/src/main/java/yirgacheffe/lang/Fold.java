@@ -2,20 +2,35 @@ package yirgacheffe.lang;
 
 public class Fold<T extends Combinable<S>, S>
 {
-	private Array<? extends T> array;
+	private Sequence<? extends T> sequence;
 
 	public Fold(Array<? extends T> array)
 	{
-		this.array = array;
+		this.sequence = new Sequence<>(array);
+	}
+
+	public Fold(Sequence<? extends T> sequence)
+	{
+		this.sequence = sequence;
 	}
 
 	public S with(S item)
 	{
-		for (int i = 0; i < this.array.length(); i++)
-		{
-			item = this.array.get(i).combineWith(item);
-		}
+		final MutableReference<S> result = new MutableReference<>(item);
+
+		this.sequence.run(
+			new Sink<T>()
+			{
+				public boolean accept(T item)
+				{
+					result.set(item.combineWith(result.get()));
+
+					return true;
+				}
+			},
+			0,
+			this.sequence.size());
 
-		return item;
+		return result.get();
 	}
 }
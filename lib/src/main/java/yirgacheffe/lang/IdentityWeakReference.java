@@ -0,0 +1,47 @@
+package yirgacheffe.lang;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+final class IdentityWeakReference extends WeakReference<Object>
+{
+	private int hashCode;
+
+	IdentityWeakReference(Object referent)
+	{
+		super(referent);
+
+		this.hashCode = java.lang.System.identityHashCode(referent);
+	}
+
+	IdentityWeakReference(Object referent, ReferenceQueue<Object> queue)
+	{
+		super(referent, queue);
+
+		this.hashCode = java.lang.System.identityHashCode(referent);
+	}
+
+	@Override
+	public boolean equals(Object other)
+	{
+		if (this == other)
+		{
+			return true;
+		}
+
+		if (other instanceof IdentityWeakReference)
+		{
+			Object referent = this.get();
+
+			return referent != null && referent == ((IdentityWeakReference) other).get();
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return this.hashCode;
+	}
+}
@@ -0,0 +1,164 @@
+package yirgacheffe.lang;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class IndexedArray<T> extends Array<T>
+{
+	private Map<Object, Integer> counts = new HashMap<>();
+
+	public IndexedArray()
+	{
+		super();
+	}
+
+	public IndexedArray(T... items)
+	{
+		super(items);
+
+		this.addAll(0, this.length());
+	}
+
+	public IndexedArray(Array<T> array)
+	{
+		super(array);
+
+		this.addAll(0, this.length());
+	}
+
+	public IndexedArray(Collection<T> collection)
+	{
+		super(collection);
+
+		this.addAll(0, this.length());
+	}
+
+	@Override
+	public void set(int i, T item)
+	{
+		int length = this.length();
+
+		if (i >= 0 && i < length)
+		{
+			this.remove(this.get(i));
+		}
+
+		super.set(i, item);
+
+		for (int j = length; j < i; j++)
+		{
+			this.add(null);
+		}
+
+		this.add(item);
+	}
+
+	@Override
+	public void push(Array<T> items)
+	{
+		int length = this.length();
+
+		super.push(items);
+
+		this.addAll(length, this.length());
+	}
+
+	@Override
+	public void push(T item)
+	{
+		super.push(item);
+
+		this.add(item);
+	}
+
+	@Override
+	public T pop()
+	{
+		T item = super.pop();
+
+		this.remove(item);
+
+		return item;
+	}
+
+	@Override
+	public void unshift(T... items)
+	{
+		super.unshift(items);
+
+		for (T item: items)
+		{
+			this.add(item);
+		}
+	}
+
+	@Override
+	public T shift()
+	{
+		T item = super.shift();
+
+		this.remove(item);
+
+		return item;
+	}
+
+	@Override
+	public Array<T> splice(int startIndex, int deleteCount, T... items)
+	{
+		Array<T> deleted = super.splice(startIndex, deleteCount, items);
+
+		for (int i = 0; i < deleted.length(); i++)
+		{
+			this.remove(deleted.get(i));
+		}
+
+		for (T item: items)
+		{
+			this.add(item);
+		}
+
+		return deleted;
+	}
+
+	@Override
+	public int indexOf(T item)
+	{
+		return this.counts.containsKey(item) ? super.indexOf(item) : -1;
+	}
+
+	@Override
+	public boolean contains(Object item)
+	{
+		return this.counts.containsKey(item);
+	}
+
+	private void addAll(int from, int to)
+	{
+		for (int i = from; i < to; i++)
+		{
+			this.add(this.get(i));
+		}
+	}
+
+	private void add(Object item)
+	{
+		Integer count = this.counts.get(item);
+
+		this.counts.put(item, count == null ? 1 : count + 1);
+	}
+
+	private void remove(Object item)
+	{
+		Integer count = this.counts.get(item);
+
+		if (count == 1)
+		{
+			this.counts.remove(item);
+		}
+		else
+		{
+			this.counts.put(item, count - 1);
+		}
+	}
+}
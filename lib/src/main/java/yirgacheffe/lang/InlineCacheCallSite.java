@@ -0,0 +1,190 @@
+package yirgacheffe.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
+
+final class InlineCacheCallSite extends MutableCallSite
+{
+	private static final MethodHandle RELINK;
+
+	private static final MethodHandle CHECK_CLASS;
+
+	private static final MethodHandle HIT;
+
+	static
+	{
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			RELINK =
+				lookup.findVirtual(
+					InlineCacheCallSite.class,
+					"relink",
+					MethodType.methodType(Object.class, Object[].class));
+
+			CHECK_CLASS =
+				lookup.findStatic(
+					InlineCacheCallSite.class,
+					"checkClass",
+					MethodType.methodType(boolean.class, Class.class, Object.class));
+
+			HIT =
+				lookup.findVirtual(
+					CallSiteMetrics.class,
+					"hit",
+					MethodType.methodType(void.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException ex)
+		{
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private MethodHandles.Lookup lookup;
+
+	private String name;
+
+	private boolean isPrivate;
+
+	private int maximumDepth;
+
+	private int depth = 0;
+
+	private MethodHandle cache;
+
+	private CallSiteMetrics metrics;
+
+	InlineCacheCallSite(
+		MethodHandles.Lookup lookup,
+		String name,
+		MethodType type,
+		boolean isPrivate,
+		int maximumDepth,
+		CallSiteMetrics metrics)
+	{
+		super(type);
+
+		this.lookup = lookup;
+		this.name = name;
+		this.isPrivate = isPrivate;
+		this.maximumDepth = maximumDepth;
+		this.metrics = metrics;
+
+		this.cache =
+			RELINK.bindTo(this)
+				.asCollector(Object[].class, type.parameterCount())
+				.asType(type);
+
+		this.setTarget(Bootstrap.guardNothing(type, this.cache));
+	}
+
+	private Object relink(Object[] arguments) throws Throwable
+	{
+		Object receiver = arguments[0];
+		Object[] parameters = Arrays.copyOfRange(arguments, 1, arguments.length);
+
+		MethodHandle method;
+
+		if (this.metrics == null)
+		{
+			method =
+				Bootstrap.runtimeDispatcher(
+					this.lookup,
+					this.name,
+					this.isPrivate,
+					receiver,
+					parameters);
+		}
+		else
+		{
+			method =
+				this.metrics.dispatch(
+					this.lookup,
+					this.name,
+					this.isPrivate,
+					receiver,
+					parameters);
+		}
+
+		MethodHandle target = method.asType(this.type());
+
+		this.link(target, arguments);
+
+		return target.invokeWithArguments(arguments);
+	}
+
+	private synchronized void link(MethodHandle target, Object[] arguments)
+	{
+		if (this.metrics != null)
+		{
+			this.metrics.link();
+		}
+
+		if (this.depth < this.maximumDepth)
+		{
+			this.cache = this.guard(this.countHits(target), arguments);
+			this.setTarget(Bootstrap.guardNothing(this.type(), this.cache));
+			this.depth++;
+		}
+		else
+		{
+			this.setTarget(
+				Bootstrap.megamorphicTarget(
+					this.lookup,
+					this.name,
+					this.type(),
+					this.isPrivate,
+					this.metrics));
+		}
+	}
+
+	private MethodHandle countHits(MethodHandle target)
+	{
+		if (this.metrics == null)
+		{
+			return target;
+		}
+		else
+		{
+			return MethodHandles.foldArguments(target, HIT.bindTo(this.metrics));
+		}
+	}
+
+	private MethodHandle guard(MethodHandle target, Object[] arguments)
+	{
+		MethodType type = this.type();
+		MethodHandle fallback = this.cache;
+		MethodHandle guarded = target;
+
+		for (int i = 0; i < arguments.length; i++)
+		{
+			Class<?> parameterType = type.parameterType(i);
+
+			if (!parameterType.isPrimitive())
+			{
+				MethodHandle test =
+					MethodHandles.insertArguments(CHECK_CLASS, 0, arguments[i].getClass())
+						.asType(MethodType.methodType(boolean.class, parameterType));
+
+				test =
+					MethodHandles.dropArguments(
+						test,
+						0,
+						type.parameterList().subList(0, i));
+
+				guarded = MethodHandles.guardWithTest(test, guarded, fallback);
+			}
+		}
+
+		return guarded;
+	}
+
+	private static boolean checkClass(Class<?> expected, Object argument)
+	{
+		return argument.getClass() == expected;
+	}
+}
@@ -0,0 +1,6 @@
+package yirgacheffe.lang;
+
+public interface Mapping<T, R>
+{
+	R map(T item);
+}
@@ -0,0 +1,111 @@
+package yirgacheffe.lang;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class NumArray extends PrimitiveArray<Double>
+{
+	private double[] array;
+
+	public NumArray()
+	{
+		this(0);
+	}
+
+	public NumArray(double... items)
+	{
+		this(items.length);
+
+		java.lang.System.arraycopy(items, 0, this.array, 0, items.length);
+	}
+
+	public NumArray(Array<Double> array)
+	{
+		this(0);
+
+		this.push(array);
+	}
+
+	public NumArray(Collection<Double> collection)
+	{
+		this(0);
+
+		for (Double item: collection)
+		{
+			this.push(item);
+		}
+	}
+
+	private NumArray(int length)
+	{
+		super(length);
+
+		this.array = new double[length];
+	}
+
+	Object storage()
+	{
+		return this.array;
+	}
+
+	int capacity()
+	{
+		return this.array.length;
+	}
+
+	Object allocate(int capacity)
+	{
+		return new double[capacity];
+	}
+
+	void replace(Object storage)
+	{
+		this.array = (double[]) storage;
+	}
+
+	Double box(int index)
+	{
+		return this.array[index];
+	}
+
+	void store(int index, Object item)
+	{
+		this.array[index] = ((Number) item).doubleValue();
+	}
+
+	void swap(int first, int second)
+	{
+		double item = this.array[first];
+
+		this.array[first] = this.array[second];
+		this.array[second] = item;
+	}
+
+	void sortRange(int from, int to)
+	{
+		Arrays.parallelSort(this.array, from, to);
+	}
+
+	int find(Object item, int from, int to)
+	{
+		if (item instanceof Number)
+		{
+			double value = ((Number) item).doubleValue();
+
+			for (int i = from; i < to; i++)
+			{
+				if (Double.compare(this.array[i], value) == 0)
+				{
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	PrimitiveArray<Double> create(int length)
+	{
+		return new NumArray(length);
+	}
+}
@@ -0,0 +1,82 @@
+package yirgacheffe.lang;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ObjectSignatures
+{
+	private ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private Map<IdentityWeakReference, Class<?>[]> signatures =
+		new ConcurrentHashMap<>();
+
+	private Map<String, Class<?>[]> parsedSignatures = new ConcurrentHashMap<>();
+
+	void put(Object object, String signature)
+	{
+		this.expungeStaleEntries();
+
+		if (this.get(object) == null)
+		{
+			IdentityWeakReference key = new IdentityWeakReference(object, this.queue);
+
+			this.signatures.putIfAbsent(key, this.parse(signature));
+		}
+	}
+
+	Class<?>[] get(Object object)
+	{
+		return this.signatures.get(new IdentityWeakReference(object));
+	}
+
+	int size()
+	{
+		this.expungeStaleEntries();
+
+		return this.signatures.size();
+	}
+
+	private Class<?>[] parse(String signature)
+	{
+		Class<?>[] parameterClasses = this.parsedSignatures.get(signature);
+
+		if (parameterClasses != null)
+		{
+			return parameterClasses;
+		}
+
+		ClassLoader classLoader = Bootstrap.class.getClassLoader();
+		String[] parameterTypes = signature.split(",");
+
+		parameterClasses = new Class<?>[parameterTypes.length];
+
+		try
+		{
+			for (int i = 0; i < parameterClasses.length; i++)
+			{
+				parameterClasses[i] = classLoader.loadClass(parameterTypes[i]);
+			}
+		}
+		catch (ClassNotFoundException ignore)
+		{
+		}
+
+		this.parsedSignatures.putIfAbsent(signature, parameterClasses);
+
+		return this.parsedSignatures.get(signature);
+	}
+
+	private void expungeStaleEntries()
+	{
+		Reference<?> reference = this.queue.poll();
+
+		while (reference != null)
+		{
+			this.signatures.remove(reference);
+
+			reference = this.queue.poll();
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package yirgacheffe.lang;
+
+public interface Ordering<T>
+{
+	double compare(T first, T second);
+}
@@ -0,0 +1,19 @@
+package yirgacheffe.lang;
+
+import java.util.Comparator;
+
+final class OrderingComparator<T> implements Comparator<Object>
+{
+	private Ordering<T> ordering;
+
+	OrderingComparator(Ordering<T> ordering)
+	{
+		this.ordering = ordering;
+	}
+
+	@Override
+	public int compare(Object first, Object second)
+	{
+		return (int) Math.signum(this.ordering.compare((T) first, (T) second));
+	}
+}
@@ -0,0 +1,53 @@
+package yirgacheffe.lang;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelReduce<T extends Combinable<T>>
+{
+	private static final int THRESHOLD = 4096;
+
+	private Sequence<? extends T> sequence;
+
+	private int threshold;
+
+	public ParallelReduce(Array<? extends T> array)
+	{
+		this(new Sequence<>(array), THRESHOLD);
+	}
+
+	public ParallelReduce(Array<? extends T> array, int threshold)
+	{
+		this(new Sequence<>(array), threshold);
+	}
+
+	public ParallelReduce(Sequence<? extends T> sequence)
+	{
+		this(sequence, THRESHOLD);
+	}
+
+	public ParallelReduce(Sequence<? extends T> sequence, int threshold)
+	{
+		this.sequence = sequence;
+		this.threshold = Math.max(threshold, 1);
+	}
+
+	public T to()
+	{
+		if (this.sequence.isLimited() || this.sequence.size() <= this.threshold)
+		{
+			return new Reduce<T>(this.sequence).to();
+		}
+
+		ReduceTask<T> task =
+			new ReduceTask<>(this.sequence, 0, this.sequence.size(), this.threshold);
+
+		T item = ForkJoinPool.commonPool().invoke(task);
+
+		if (item == null)
+		{
+			throw new ArrayIndexOutOfBoundsException(Integer.toString(0));
+		}
+
+		return item;
+	}
+}
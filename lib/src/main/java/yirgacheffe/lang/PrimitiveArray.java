@@ -0,0 +1,61 @@
+package yirgacheffe.lang;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public abstract class PrimitiveArray<T> extends Array<T>
+{
+	PrimitiveArray(int length)
+	{
+		super(null, length);
+	}
+
+	abstract Object storage();
+
+	abstract int capacity();
+
+	abstract Object allocate(int capacity);
+
+	abstract void replace(Object storage);
+
+	abstract T box(int index);
+
+	abstract void store(int index, Object item);
+
+	abstract void swap(int first, int second);
+
+	abstract void sortRange(int from, int to);
+
+	abstract int find(Object item, int from, int to);
+
+	abstract PrimitiveArray<T> create(int length);
+
+	void clear(int from, int to)
+	{
+	}
+
+	void checkItem(Object item)
+	{
+		if (item == null)
+		{
+			throw new NullPointerException("Primitive arrays cannot hold null.");
+		}
+	}
+
+	void sortRange(int from, int to, Comparator<Object> comparator)
+	{
+		Object[] items = new Object[to - from];
+
+		for (int i = 0; i < items.length; i++)
+		{
+			items[i] = this.box(from + i);
+		}
+
+		Arrays.parallelSort(items, comparator);
+
+		for (int i = 0; i < items.length; i++)
+		{
+			this.store(from + i, items[i]);
+		}
+	}
+}
@@ -2,20 +2,29 @@ package yirgacheffe.lang;
 
 public class Reduce<T extends Combinable<T>>
 {
-	private Array<? extends T> array;
+	private Sequence<? extends T> sequence;
 
 	public Reduce(Array<? extends T> array)
 	{
-		this.array = array;
+		this.sequence = new Sequence<>(array);
+	}
+
+	public Reduce(Sequence<? extends T> sequence)
+	{
+		this.sequence = sequence;
 	}
 
 	public T to()
 	{
-		T item = this.array.get(0);
+		ReduceSink<T> sink = new ReduceSink<>();
+
+		this.sequence.run(sink, 0, this.sequence.size());
+
+		T item = sink.getItem();
 
-		for (int i = 1; i < this.array.length(); i++)
+		if (item == null)
 		{
-			item = this.array.get(i).combineWith(item);
+			throw new ArrayIndexOutOfBoundsException(Integer.toString(0));
 		}
 
 		return item;
@@ -0,0 +1,25 @@
+package yirgacheffe.lang;
+
+class ReduceSink<T extends Combinable<T>> implements Sink<T>
+{
+	private T item;
+
+	public boolean accept(T item)
+	{
+		if (this.item == null)
+		{
+			this.item = item;
+		}
+		else
+		{
+			this.item = item.combineWith(this.item);
+		}
+
+		return true;
+	}
+
+	T getItem()
+	{
+		return this.item;
+	}
+}
@@ -0,0 +1,59 @@
+package yirgacheffe.lang;
+
+import java.util.concurrent.RecursiveTask;
+
+class ReduceTask<T extends Combinable<T>> extends RecursiveTask<T>
+{
+	private Sequence<? extends T> sequence;
+
+	private int start;
+
+	private int end;
+
+	private int threshold;
+
+	ReduceTask(Sequence<? extends T> sequence, int start, int end, int threshold)
+	{
+		this.sequence = sequence;
+		this.start = start;
+		this.end = end;
+		this.threshold = threshold;
+	}
+
+	protected T compute()
+	{
+		if (this.end - this.start <= this.threshold)
+		{
+			ReduceSink<T> sink = new ReduceSink<>();
+
+			this.sequence.run(sink, this.start, this.end);
+
+			return sink.getItem();
+		}
+
+		int middle = (this.start + this.end) >>> 1;
+
+		ReduceTask<T> left =
+			new ReduceTask<>(this.sequence, this.start, middle, this.threshold);
+		ReduceTask<T> right =
+			new ReduceTask<>(this.sequence, middle, this.end, this.threshold);
+
+		left.fork();
+
+		T rightItem = right.compute();
+		T leftItem = left.join();
+
+		if (leftItem == null)
+		{
+			return rightItem;
+		}
+		else if (rightItem == null)
+		{
+			return leftItem;
+		}
+		else
+		{
+			return rightItem.combineWith(leftItem);
+		}
+	}
+}
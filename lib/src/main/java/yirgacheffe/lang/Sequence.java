@@ -0,0 +1,149 @@
+package yirgacheffe.lang;
+
+public class Sequence<T>
+{
+	private Array<?> source;
+
+	private Stage<T> stage;
+
+	private boolean limited;
+
+	public Sequence(Array<T> array)
+	{
+		this(
+			array,
+			new Stage<T>()
+			{
+				public Sink<Object> wrap(Sink<T> downstream)
+				{
+					return (Sink) downstream;
+				}
+			},
+			false);
+	}
+
+	private Sequence(Array<?> source, Stage<T> stage, boolean limited)
+	{
+		this.source = source;
+		this.stage = stage;
+		this.limited = limited;
+	}
+
+	public <R> Sequence<R> map(final Mapping<T, R> mapping)
+	{
+		final Stage<T> stage = this.stage;
+
+		return new Sequence<>(
+			this.source,
+			new Stage<R>()
+			{
+				public Sink<Object> wrap(final Sink<R> downstream)
+				{
+					return stage.wrap(new Sink<T>()
+					{
+						public boolean accept(T item)
+						{
+							return downstream.accept(mapping.map(item));
+						}
+					});
+				}
+			},
+			this.limited);
+	}
+
+	public Sequence<T> filter(final Filter<T> filter)
+	{
+		final Stage<T> stage = this.stage;
+
+		return new Sequence<>(
+			this.source,
+			new Stage<T>()
+			{
+				public Sink<Object> wrap(final Sink<T> downstream)
+				{
+					return stage.wrap(new Sink<T>()
+					{
+						public boolean accept(T item)
+						{
+							return !filter.accept(item) || downstream.accept(item);
+						}
+					});
+				}
+			},
+			this.limited);
+	}
+
+	public Sequence<T> take(final int count)
+	{
+		final Stage<T> stage = this.stage;
+
+		return new Sequence<>(
+			this.source,
+			new Stage<T>()
+			{
+				public Sink<Object> wrap(final Sink<T> downstream)
+				{
+					return stage.wrap(new Sink<T>()
+					{
+						private int taken = 0;
+
+						public boolean accept(T item)
+						{
+							if (this.taken >= count)
+							{
+								return false;
+							}
+
+							this.taken++;
+
+							return downstream.accept(item) && this.taken < count;
+						}
+					});
+				}
+			},
+			true);
+	}
+
+	public Array<T> toArray()
+	{
+		final Array<T> array = new Array<>();
+
+		this.run(
+			new Sink<T>()
+			{
+				public boolean accept(T item)
+				{
+					array.push(item);
+
+					return true;
+				}
+			},
+			0,
+			this.size());
+
+		return array;
+	}
+
+	int size()
+	{
+		return this.source.length();
+	}
+
+	boolean isLimited()
+	{
+		return this.limited;
+	}
+
+	void run(Sink<? super T> sink, int start, int end)
+	{
+		Sink<Object> head = this.stage.wrap((Sink<T>) sink);
+
+		for (int i = start; i < end; i++)
+		{
+			if (!head.accept(this.source.get(i)))
+			{
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package yirgacheffe.lang;
+
+interface Sink<T>
+{
+	boolean accept(T item);
+}
@@ -0,0 +1,6 @@
+package yirgacheffe.lang;
+
+interface Stage<T>
+{
+	Sink<Object> wrap(Sink<T> downstream);
+}
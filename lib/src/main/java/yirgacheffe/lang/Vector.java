@@ -0,0 +1,336 @@
+package yirgacheffe.lang;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class Vector<T> implements Iterable<T>
+{
+	private static final int BITS = 5;
+
+	private static final int WIDTH = 1 << BITS;
+
+	private static final int MASK = WIDTH - 1;
+
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private int length;
+
+	private int shift;
+
+	private Object[] root;
+
+	private Object[] tail;
+
+	public Vector()
+	{
+		this(0, BITS, new Object[WIDTH], NO_ELEMENTS);
+	}
+
+	public Vector(T... items)
+	{
+		this(new Vector<T>().append(items, items.length));
+	}
+
+	public Vector(Array<T> array)
+	{
+		this(new Vector<T>().append(array.toArray(), array.length()));
+	}
+
+	private Vector(Vector<T> vector)
+	{
+		this(vector.length, vector.shift, vector.root, vector.tail);
+	}
+
+	private Vector(int length, int shift, Object[] root, Object[] tail)
+	{
+		this.length = length;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	public int length()
+	{
+		return this.length;
+	}
+
+	public T get(int index)
+	{
+		if (index < 0 || index >= this.length)
+		{
+			throw new ArrayIndexOutOfBoundsException(Integer.toString(index));
+		}
+
+		return (T) this.leafFor(index)[index & MASK];
+	}
+
+	public Vector<T> set(int index, T item)
+	{
+		if (index == this.length)
+		{
+			return this.push(item);
+		}
+
+		if (index < 0 || index > this.length)
+		{
+			throw new ArrayIndexOutOfBoundsException(Integer.toString(index));
+		}
+
+		if (index >= this.tailOffset())
+		{
+			Object[] newTail = this.tail.clone();
+
+			newTail[index & MASK] = item;
+
+			return new Vector<>(this.length, this.shift, this.root, newTail);
+		}
+
+		Object[] newRoot = this.setInNode(this.shift, this.root, index, item);
+
+		return new Vector<>(this.length, this.shift, newRoot, this.tail);
+	}
+
+	public Vector<T> push(T item)
+	{
+		return this.pushLeaf(new Object[] {item});
+	}
+
+	public Vector<T> concat(Vector<T> other)
+	{
+		Vector<T> concatenated = this;
+
+		for (int i = 0; i < other.length; i += WIDTH)
+		{
+			concatenated = concatenated.pushLeaf(other.leafFor(i));
+		}
+
+		return concatenated;
+	}
+
+	public Array<T> toArray()
+	{
+		Object[] items = new Object[this.length];
+
+		for (int i = 0; i < this.length; i += WIDTH)
+		{
+			java.lang.System.arraycopy(
+				this.leafFor(i), 0, items, i, Math.min(WIDTH, this.length - i));
+		}
+
+		return new Array<>((T[]) items);
+	}
+
+	public String toString()
+	{
+		return this.toArray().toString();
+	}
+
+	@Override
+	public Iterator<T> iterator()
+	{
+		final Vector<T> vector = this;
+
+		return new Iterator<T>()
+		{
+			private int index = 0;
+
+			private Object[] leaf = NO_ELEMENTS;
+
+			@Override
+			public boolean hasNext()
+			{
+				return this.index < vector.length;
+			}
+
+			@Override
+			public T next()
+			{
+				if (this.index >= vector.length)
+				{
+					throw new NoSuchElementException();
+				}
+
+				if ((this.index & MASK) == 0)
+				{
+					this.leaf = vector.leafFor(this.index);
+				}
+
+				return (T) this.leaf[this.index++ & MASK];
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object other)
+	{
+		if (other instanceof Vector)
+		{
+			Vector<?> vector = (Vector) other;
+
+			if (this.length != vector.length)
+			{
+				return false;
+			}
+
+			for (int i = 0; i < this.length; i++)
+			{
+				if (!this.get(i).equals(vector.get(i)))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		int hashCode = 0;
+
+		for (T item: this)
+		{
+			if (item != null)
+			{
+				hashCode += item.hashCode();
+			}
+		}
+
+		return hashCode;
+	}
+
+	private Vector<T> append(Object[] items, int length)
+	{
+		Vector<T> vector = this;
+
+		for (int i = 0; i < length; i += WIDTH)
+		{
+			int end = Math.min(i + WIDTH, length);
+
+			vector = vector.pushLeaf(Arrays.copyOfRange(items, i, end, Object[].class));
+		}
+
+		return vector;
+	}
+
+	private int tailOffset()
+	{
+		return this.length - this.tail.length;
+	}
+
+	private Object[] leafFor(int index)
+	{
+		if (index >= this.tailOffset())
+		{
+			return this.tail;
+		}
+
+		Object[] node = this.root;
+
+		for (int level = this.shift; level > 0; level -= BITS)
+		{
+			node = (Object[]) node[(index >>> level) & MASK];
+		}
+
+		return node;
+	}
+
+	private Vector<T> pushLeaf(Object[] items)
+	{
+		int room = WIDTH - this.tail.length;
+
+		if (items.length <= room)
+		{
+			Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + items.length);
+
+			java.lang.System.arraycopy(
+				items, 0, newTail, this.tail.length, items.length);
+
+			return new Vector<>(
+				this.length + items.length, this.shift, this.root, newTail);
+		}
+
+		Object[] leaf = Arrays.copyOf(this.tail, WIDTH);
+		Object[] newTail =
+			Arrays.copyOfRange(items, room, items.length, Object[].class);
+		int count = this.length + room;
+		int newShift = this.shift;
+		Object[] newRoot;
+
+		java.lang.System.arraycopy(items, 0, leaf, this.tail.length, room);
+
+		if ((count >>> BITS) > (1 << this.shift))
+		{
+			newRoot = new Object[WIDTH];
+			newRoot[0] = this.root;
+			newRoot[1] = this.newPath(this.shift, leaf);
+			newShift = this.shift + BITS;
+		}
+		else
+		{
+			newRoot = this.pushTail(count, this.shift, this.root, leaf);
+		}
+
+		return new Vector<>(count + newTail.length, newShift, newRoot, newTail);
+	}
+
+	private Object[] pushTail(int count, int level, Object[] parent, Object[] leaf)
+	{
+		int index = ((count - 1) >>> level) & MASK;
+		Object[] node = parent.clone();
+
+		if (level == BITS)
+		{
+			node[index] = leaf;
+		}
+		else if (parent[index] == null)
+		{
+			node[index] = this.newPath(level - BITS, leaf);
+		}
+		else
+		{
+			Object[] child = (Object[]) parent[index];
+
+			node[index] = this.pushTail(count, level - BITS, child, leaf);
+		}
+
+		return node;
+	}
+
+	private Object[] newPath(int level, Object[] leaf)
+	{
+		if (level == 0)
+		{
+			return leaf;
+		}
+
+		Object[] node = new Object[WIDTH];
+
+		node[0] = this.newPath(level - BITS, leaf);
+
+		return node;
+	}
+
+	private Object[] setInNode(int level, Object[] node, int index, Object item)
+	{
+		Object[] newNode = node.clone();
+
+		if (level == 0)
+		{
+			newNode[index & MASK] = item;
+		}
+		else
+		{
+			int childIndex = (index >>> level) & MASK;
+
+			newNode[childIndex] =
+				this.setInNode(level - BITS, (Object[]) node[childIndex], index, item);
+		}
+
+		return newNode;
+	}
+}
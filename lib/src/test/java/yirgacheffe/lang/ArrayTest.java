@@ -2,8 +2,16 @@ package yirgacheffe.lang;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class ArrayTest
 {
@@ -919,4 +927,386 @@ public class ArrayTest
 
 		assertEquals(2, array.length);
 	}
+
+	@Test
+	public void testIteratorReadsLiveItems()
+	{
+		Array<Integer> numbers = new Array<>(1, 2);
+		Iterator<Integer> iterator = numbers.iterator();
+
+		numbers.set(1, 3);
+
+		assertTrue(iterator.hasNext());
+		assertEquals(1, (int) iterator.next());
+		assertEquals(3, (int) iterator.next());
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testIteratorFailsAfterModification()
+	{
+		Array<Integer> numbers = new Array<>(1, 2);
+		Iterator<Integer> iterator = numbers.iterator();
+
+		iterator.next();
+		numbers.push(3);
+
+		Exception exception = null;
+
+		try
+		{
+			iterator.next();
+		}
+		catch (ConcurrentModificationException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+
+	@Test
+	public void testIteratorPastEnd()
+	{
+		Array<Integer> numbers = new Array<>();
+		Iterator<Integer> iterator = numbers.iterator();
+
+		Exception exception = null;
+
+		try
+		{
+			iterator.next();
+		}
+		catch (NoSuchElementException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+
+	@Test
+	public void testSnapshotIsUnaffectedByModification()
+	{
+		Array<Integer> numbers = new Array<>(1, 2);
+		Array<Integer> snapshot = numbers.snapshot();
+		int total = 0;
+
+		for (Integer number: snapshot)
+		{
+			numbers.push(number);
+			total += number;
+		}
+
+		assertEquals(3, total);
+		assertEquals("[1, 2]", snapshot.toString());
+		assertEquals("[1, 2, 1, 2]", numbers.toString());
+	}
+
+	@Test
+	public void testIndexOfIgnoresSpareCapacity()
+	{
+		Array<Integer> numbers = new Array<>(1, null, 2);
+
+		numbers.pop();
+
+		assertEquals(1, numbers.indexOf(null));
+		assertEquals(-1, numbers.indexOf(2));
+		assertFalse(numbers.contains(2));
+		assertTrue(numbers.contains(null));
+		assertEquals(-1, new Array<Integer>(1).indexOf(null));
+	}
+
+	@Test
+	public void testPushAndShiftAsQueue()
+	{
+		Array<Integer> queue = new Array<>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			queue.push(i);
+			queue.push(i);
+
+			assertEquals(i / 2, (int) queue.shift());
+		}
+
+		assertEquals(1000, queue.length());
+		assertEquals(500, (int) queue.get(0));
+		assertEquals(999, (int) queue.get(999));
+		assertEquals(0, queue.indexOf(500));
+		assertEquals(-1, queue.indexOf(499));
+	}
+
+	@Test
+	public void testUnshiftManyItems()
+	{
+		Array<Integer> numbers = new Array<>(1000);
+
+		for (int i = 999; i >= 0; i--)
+		{
+			numbers.unshift(i);
+		}
+
+		assertEquals(1001, numbers.length());
+
+		for (int i = 0; i <= 1000; i++)
+		{
+			assertEquals(i, (int) numbers.get(i));
+		}
+	}
+
+	@Test
+	public void testOperationsAfterShift()
+	{
+		Array<Integer> numbers = new Array<>(9, 3, 2, 1, 4);
+
+		numbers.shift();
+		numbers.sort();
+
+		assertEquals("[1, 2, 3, 4]", numbers.toString());
+		assertEquals("1,2,3,4", numbers.join(","));
+		assertEquals("[2, 3]", numbers.slice(1, 3).toString());
+		assertEquals("[1, 2, 3, 4, 1, 2, 3, 4]", numbers.concat(numbers).toString());
+		assertEquals("[1, 2, 3, 4]", new Array<>(numbers).toString());
+		assertEquals(new Array<>(1, 2, 3, 4), numbers);
+		assertEquals(new Array<>(1, 2, 3, 4).hashCode(), numbers.hashCode());
+
+		Array<Integer> deleted = numbers.splice(1, 2, 5);
+
+		assertEquals("[2, 3]", deleted.toString());
+		assertEquals("[1, 5, 4]", numbers.toString());
+
+		numbers.reverse();
+
+		assertEquals("[4, 5, 1]", numbers.toString());
+
+		Array<Integer> other = new Array<>(0);
+
+		other.push(numbers);
+
+		assertEquals("[0, 4, 5, 1]", other.toString());
+	}
+
+	@Test
+	public void testSetNegativeIndex()
+	{
+		Array<Integer> numbers = new Array<>(1, 2);
+
+		numbers.shift();
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.set(-1, 0);
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("-1", exception.getMessage());
+		assertEquals("[2]", numbers.toString());
+	}
+
+	@Test
+	public void testPushToEmptyCollectionArray()
+	{
+		Array<Integer> numbers = new Array<>(new ArrayList<Integer>());
+
+		numbers.push(1);
+		numbers.unshift(0);
+
+		assertEquals("[0, 1]", numbers.toString());
+	}
+
+	@Test
+	public void testSliceSharesItemsUntilModified()
+	{
+		Array<Integer> numbers = new Array<>(1, 2, 3, 4);
+		Array<Integer> slice = numbers.slice(1, 3);
+
+		assertEquals("[2, 3]", slice.toString());
+		assertSame(numbers.elements(), slice.elements());
+
+		slice.set(0, 5);
+
+		assertEquals("[5, 3]", slice.toString());
+		assertEquals("[1, 2, 3, 4]", numbers.toString());
+
+		numbers.push(6);
+
+		assertEquals("[5, 3]", slice.toString());
+		assertEquals("[1, 2, 3, 4, 6]", numbers.toString());
+	}
+
+	@Test
+	public void testModifyArrayAfterSlice()
+	{
+		Array<Integer> numbers = new Array<>(3, 1, 2);
+		Array<Integer> slice = numbers.slice();
+
+		numbers.sort();
+		numbers.pop();
+
+		assertEquals("[3, 1, 2]", slice.toString());
+		assertEquals("[1, 2]", numbers.toString());
+	}
+
+	@Test
+	public void testShiftAndPopSlice()
+	{
+		Array<Integer> numbers = new Array<>(1, 2, 3, 4);
+		Array<Integer> slice = numbers.slice(1);
+
+		assertEquals(2, (int) slice.shift());
+		assertEquals(4, (int) slice.pop());
+		assertSame(numbers.elements(), slice.elements());
+		assertEquals("[3]", slice.toString());
+		assertEquals("[1, 2, 3, 4]", numbers.toString());
+		assertEquals(new Array<>(3).hashCode(), slice.hashCode());
+
+		slice.push(5);
+
+		assertEquals("[3, 5]", slice.toString());
+		assertEquals("[1, 2, 3, 4]", numbers.toString());
+	}
+
+	@Test
+	public void testSliceOfSlice()
+	{
+		Array<Integer> numbers = new Array<>(1, 2, 3, 4, 5);
+		Array<Integer> slice = numbers.slice(1).slice(1, -1);
+
+		assertEquals("[3, 4]", slice.toString());
+		assertEquals("[3, 4]", new Array<>(slice).toString());
+		assertEquals("[3, 4, 1, 2]", slice.concat(new Array<>(1, 2)).toString());
+
+		slice.unshift(0);
+
+		assertEquals("[0, 3, 4]", slice.toString());
+		assertEquals("[1, 2, 3, 4, 5]", numbers.toString());
+	}
+
+	@Test
+	public void testArraysAreSizedToTheirItems()
+	{
+		Array<String> empty = new Array<>();
+		Array<String> strings = new Array<>("thingy", "sumpt");
+
+		assertEquals(0, empty.elements().length);
+		assertEquals(2, strings.elements().length);
+		assertEquals(1, new Array<>(strings.slice(1)).elements().length);
+		assertEquals(3, strings.concat(new Array<>("blah")).elements().length);
+
+		empty.push("thingy");
+
+		assertEquals("[thingy]", empty.toString());
+	}
+
+	@Test
+	public void testWithCapacity()
+	{
+		Array<String> strings = Array.withCapacity(100);
+
+		assertEquals(0, strings.length());
+		assertEquals(100, strings.elements().length);
+
+		for (int i = 0; i < 100; i++)
+		{
+			strings.push("thingy");
+		}
+
+		assertEquals(100, strings.length());
+		assertEquals(100, strings.elements().length);
+	}
+
+	@Test
+	public void testNegativeCapacity()
+	{
+		Exception exception = null;
+
+		try
+		{
+			Array.withCapacity(-1);
+		}
+		catch (IllegalArgumentException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("-1", exception.getMessage());
+	}
+
+	@Test
+	public void testTrimToSize()
+	{
+		Array<Integer> numbers = new Array<>(1, 2, 3);
+
+		numbers.push(4);
+		numbers.shift();
+		numbers.trimToSize();
+
+		assertEquals(3, numbers.elements().length);
+		assertEquals(0, numbers.start());
+		assertEquals("[2, 3, 4]", numbers.toString());
+
+		numbers.splice(0);
+		numbers.trimToSize();
+
+		assertEquals(0, numbers.elements().length);
+		assertEquals("[]", numbers.toString());
+	}
+
+	@Test
+	public void testTrimSliceReleasesParent()
+	{
+		Array<Integer> numbers = new Array<>(1, 2, 3, 4);
+		Array<Integer> slice = numbers.slice(2);
+
+		slice.trimToSize();
+		numbers.set(3, 5);
+
+		assertEquals(2, slice.elements().length);
+		assertEquals("[3, 4]", slice.toString());
+		assertEquals("[1, 2, 3, 5]", numbers.toString());
+	}
+
+	@Test
+	public void testSortWithOrdering()
+	{
+		Array<String> strings = new Array<>("ccc", "a", "bb", "b", "aa");
+
+		strings.shift();
+		strings.sort(new Ordering<String>()
+		{
+			@Override
+			public double compare(String first, String second)
+			{
+				return second.length() - first.length();
+			}
+		});
+
+		assertEquals("[bb, aa, a, b]", strings.toString());
+	}
+
+	@Test
+	public void testSortLargeArray()
+	{
+		Array<Integer> numbers = new Array<>();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			numbers.push((i * 7919) % 100000);
+		}
+
+		numbers.sort();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			assertEquals(i, (int) numbers.get(i));
+		}
+	}
 }
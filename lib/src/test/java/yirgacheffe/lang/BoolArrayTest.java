@@ -0,0 +1,81 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BoolArrayTest
+{
+	@Test
+	public void arrayWithTwoItems()
+	{
+		Array<Boolean> bools = new BoolArray(true, false);
+
+		assertEquals("[true, false]", bools.toString());
+		assertEquals(2, bools.length());
+		assertTrue(bools.get(0));
+	}
+
+	@Test
+	public void testPushAndPop()
+	{
+		Array<Boolean> bools = new BoolArray();
+
+		for (int i = 0; i < 100; i++)
+		{
+			bools.push(i % 3 == 0);
+		}
+
+		assertEquals(100, bools.length());
+		assertTrue(bools.pop());
+		assertFalse(bools.pop());
+	}
+
+	@Test
+	public void testSort()
+	{
+		Array<Boolean> bools = new BoolArray(true, false, true, false, false);
+
+		bools.pop();
+		bools.sort();
+
+		assertEquals("[false, false, true, true]", bools.toString());
+	}
+
+	@Test
+	public void testIndexOf()
+	{
+		Array<Boolean> bools = new BoolArray(false, false, true);
+
+		assertEquals(2, bools.indexOf(true));
+		assertEquals(0, bools.indexOf(false));
+		assertFalse(bools.contains("true"));
+		assertEquals(-1, new BoolArray(false).indexOf(true));
+	}
+
+	@Test
+	public void testSpliceAndSlice()
+	{
+		Array<Boolean> bools = new BoolArray(true, false, true);
+
+		Array<Boolean> deleted = bools.splice(0, 1, false, false);
+
+		assertTrue(deleted instanceof BoolArray);
+		assertEquals("[true]", deleted.toString());
+		assertEquals("[false, false, false, true]", bools.toString());
+		assertEquals("[false, true]", bools.slice(2).toString());
+	}
+
+	@Test
+	public void testSortAfterShift()
+	{
+		Array<Boolean> bools = new BoolArray(false, true, false, true);
+
+		bools.shift();
+		bools.sort();
+
+		assertEquals("[false, true, true]", bools.toString());
+	}
+}
@@ -0,0 +1,339 @@
+package yirgacheffe.lang;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BootstrapTest
+{
+	private static final Object[] ARGUMENTS =
+		{"thingy", 1.0, true, 'c', new Exception(), new Object()};
+
+	private static final String[] DESCRIPTIONS =
+		{"string", "number", "boolean", "character", "exception", "object"};
+
+	@Before
+	public void clearMethodCache()
+	{
+		Bootstrap.clearCache();
+	}
+
+	public String describe(Object object)
+	{
+		return "object";
+	}
+
+	public String describe(String string)
+	{
+		return "string";
+	}
+
+	public String describe(Double number)
+	{
+		return "number";
+	}
+
+	public String describe(Boolean bool)
+	{
+		return "boolean";
+	}
+
+	public String describe(Character character)
+	{
+		return "character";
+	}
+
+	public String describe(Exception exception)
+	{
+		return "exception";
+	}
+
+	public String describe(Array<Double> numbers)
+	{
+		return "numbers";
+	}
+
+	public String describe(Comparable<String> comparable)
+	{
+		return "comparable";
+	}
+
+	public String describe(Combinable<Range> combinable)
+	{
+		return "range";
+	}
+
+	@Test
+	public void testDispatchOnArgumentClass() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		for (int i = 0; i < ARGUMENTS.length; i++)
+		{
+			String description = (String) describe.invokeExact(this, ARGUMENTS[i]);
+
+			assertEquals(DESCRIPTIONS[i], description);
+		}
+	}
+
+	@Test
+	public void testDispatchOnSubclassPrefersMostSpecific() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		Object failure = new IllegalStateException();
+
+		assertEquals("exception", (String) describe.invokeExact(this, failure));
+	}
+
+	@Test
+	public void testDispatchOnPrimitiveArray() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		Object numbers = new NumArray(1.0, 2.0);
+
+		Bootstrap.cacheObjectSignature(numbers, "java.lang.Double");
+
+		assertEquals("numbers", (String) describe.invokeExact(this, numbers));
+		assertEquals("object", (String) describe.invokeExact(this, new Object()));
+	}
+
+	@Test
+	public void testDispatchOnInterfaceWithoutSignature() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		Object label = new Label();
+
+		assertEquals("comparable", (String) describe.invokeExact(this, label));
+		assertEquals("object", (String) describe.invokeExact(this, new Object()));
+	}
+
+	@Test
+	public void testDispatchOnImplementedGenericInterface() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		Object range = new Range(0, 0, true);
+
+		assertEquals("range", (String) describe.invokeExact(this, range));
+		assertEquals("object", (String) describe.invokeExact(this, new Object()));
+	}
+
+	@Test
+	public void testDispatchOnInheritedGenericInterface() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		Object span = new Span();
+		Object pairing = new RangePairing();
+
+		assertEquals("range", (String) describe.invokeExact(this, span));
+		assertEquals("range", (String) describe.invokeExact(this, pairing));
+	}
+
+	@Test
+	public void testNullArgumentGivesNothing() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		String description = (String) describe.invokeExact(this, (Object) null);
+
+		assertEquals(null, description);
+	}
+
+	@Test
+	public void testNullArgumentDoesNotDispatch() throws Throwable
+	{
+		MethodType type =
+			MethodType.methodType(String.class, BootstrapTest.class, Object.class);
+		MethodHandle refuse =
+			MethodHandles.lookup().findStatic(BootstrapTest.class, "refuse", type);
+		MethodHandle guarded = Bootstrap.guardNothing(type, refuse);
+
+		assertNull((String) guarded.invokeExact(this, (Object) null));
+		assertNull((String) guarded.invokeExact((BootstrapTest) null, ARGUMENTS[0]));
+	}
+
+	@Test
+	public void testNullReceiverGivesNothing() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		String description =
+			(String) describe.invokeExact((BootstrapTest) null, ARGUMENTS[0]);
+
+		assertEquals(null, description);
+	}
+
+	@Test
+	public void testNullArgumentAfterLinkingGivesNothing() throws Throwable
+	{
+		MethodHandle describe = this.describeHandle();
+
+		for (Object argument: ARGUMENTS)
+		{
+			String description = (String) describe.invokeExact(this, argument);
+			String nothing = (String) describe.invokeExact(this, (Object) null);
+
+			assertEquals(null, nothing);
+			assertEquals(description, (String) describe.invokeExact(this, argument));
+		}
+	}
+
+	@Test
+	public void testConcurrentDispatch() throws Exception
+	{
+		final MethodHandle describe = this.describeHandle();
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<Integer>> futures = new ArrayList<>();
+
+		for (int i = 0; i < threadCount; i++)
+		{
+			final int offset = i;
+
+			futures.add(executor.submit(new Callable<Integer>()
+			{
+				@Override
+				public Integer call() throws Exception
+				{
+					return BootstrapTest.this.dispatch(describe, offset, 10000);
+				}
+			}));
+		}
+
+		try
+		{
+			for (Future<Integer> future: futures)
+			{
+				assertEquals(10000, (int) future.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testDispatchDoesNotHoldReceiverClass() throws Throwable
+	{
+		URL location =
+			Unloadable.class.getProtectionDomain().getCodeSource().getLocation();
+		ClassLoader loader = new URLClassLoader(new URL[] {location}, null);
+		Class<?> unloadable = loader.loadClass(Unloadable.class.getName());
+		Object receiver = unloadable.newInstance();
+		ReferenceQueue<Class<?>> queue = new ReferenceQueue<>();
+		WeakReference<Class<?>> reference = new WeakReference<>(unloadable, queue);
+
+		MethodType type =
+			MethodType.methodType(Object.class, Object.class, Object.class);
+		CallSite callSite =
+			Bootstrap.bootstrapPublic(MethodHandles.lookup(), "describe", type);
+
+		assertEquals("unloadable", callSite.dynamicInvoker().invoke(receiver, "thingy"));
+
+		loader = null;
+		unloadable = null;
+		receiver = null;
+		callSite = null;
+
+		for (int i = 0; i < 100 && reference.get() != null; i++)
+		{
+			java.lang.System.gc();
+			queue.remove(100);
+		}
+
+		assertNull(reference.get());
+	}
+
+	@Test
+	public void testDispatchDoesNotHoldArgumentClass() throws Throwable
+	{
+		URL location =
+			Unloadable.class.getProtectionDomain().getCodeSource().getLocation();
+		ClassLoader loader = new URLClassLoader(new URL[] {location}, null);
+		Class<?> unloadable = loader.loadClass(Unloadable.class.getName());
+		Object argument = unloadable.newInstance();
+		ReferenceQueue<Class<?>> queue = new ReferenceQueue<>();
+		WeakReference<Class<?>> reference = new WeakReference<>(unloadable, queue);
+		MethodHandle describe = this.describeHandle();
+
+		assertEquals("object", (String) describe.invokeExact(this, argument));
+
+		loader = null;
+		unloadable = null;
+		argument = null;
+		describe = null;
+
+		for (int i = 0; i < 100 && reference.get() != null; i++)
+		{
+			java.lang.System.gc();
+			queue.remove(100);
+		}
+
+		assertNull(reference.get());
+	}
+
+	private int dispatch(MethodHandle describe, int offset, int calls) throws Exception
+	{
+		int matches = 0;
+
+		for (int i = 0; i < calls; i++)
+		{
+			int index = (i + offset) % ARGUMENTS.length;
+			String description;
+
+			try
+			{
+				description = (String) describe.invokeExact(this, ARGUMENTS[index]);
+			}
+			catch (Throwable e)
+			{
+				throw new Exception(e);
+			}
+
+			if (description.equals(DESCRIPTIONS[index]))
+			{
+				matches++;
+			}
+		}
+
+		return matches;
+	}
+
+	public static String refuse(BootstrapTest receiver, Object argument)
+	{
+		throw new AssertionError("Null arguments should not be dispatched.");
+	}
+
+	private MethodHandle describeHandle()
+	{
+		MethodType type =
+			MethodType.methodType(String.class, BootstrapTest.class, Object.class);
+
+		CallSite callSite =
+			Bootstrap.bootstrapPublic(MethodHandles.lookup(), "describe", type);
+
+		return callSite.dynamicInvoker();
+	}
+}
@@ -0,0 +1,141 @@
+package yirgacheffe.lang;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CallSiteMetricsTest
+{
+	private static final MethodType TYPE =
+		MethodType.methodType(String.class, CallSiteMetricsTest.class, Object.class);
+
+	@Before
+	public void clearMethodCache()
+	{
+		Bootstrap.clearCache();
+	}
+
+	public String describe(Object object)
+	{
+		return "object";
+	}
+
+	public String describe(String string)
+	{
+		return "string";
+	}
+
+	@Test
+	public void testCountHitsAndMisses() throws Throwable
+	{
+		CallSiteMetrics metrics = new CallSiteMetrics(this.getClass(), "describe");
+		MethodHandle describe = this.describeHandle(2, metrics);
+
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "sumpt"));
+		assertEquals("object", (String) describe.invokeExact(this, (Object) 1.0));
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+		assertEquals(null, (String) describe.invokeExact(this, (Object) null));
+
+		assertEquals(2, metrics.getLinks());
+		assertEquals(2, metrics.getHits());
+		assertEquals(2, metrics.getMisses());
+		assertEquals(2, metrics.getShapes());
+		assertEquals("describe", metrics.getMethodName());
+		assertTrue(metrics.getDispatchNanoseconds() > 0);
+		assertFalse(metrics.isMegamorphic());
+	}
+
+	@Test
+	public void testMegamorphicCallSite() throws Throwable
+	{
+		CallSiteMetrics metrics = new CallSiteMetrics(this.getClass(), "describe");
+		MethodHandle describe = this.describeHandle(1, metrics);
+
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+		assertEquals("object", (String) describe.invokeExact(this, (Object) 1.0));
+		assertEquals("object", (String) describe.invokeExact(this, (Object) true));
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+
+		assertEquals(2, metrics.getLinks());
+		assertEquals(0, metrics.getHits());
+		assertEquals(4, metrics.getMisses());
+		assertEquals(3, metrics.getShapes());
+		assertTrue(metrics.isMegamorphic());
+		assertTrue(metrics.toString().endsWith(" megamorphic"));
+	}
+
+	@Test
+	public void testLocationAndReport() throws Throwable
+	{
+		CallSiteMetrics metrics = new CallSiteMetrics(this.getClass(), "describe");
+		MethodHandle describe = this.describeHandle(2, metrics);
+
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+
+		String location = metrics.getLocation();
+
+		assertTrue(location.startsWith("CallSiteMetricsTest.java:"));
+		assertTrue(DispatchMetrics.report().contains(
+			location + " describe links=1 hits=0 misses=1 shapes=1 dispatch="));
+	}
+
+	@Test
+	public void testRegisterMBean() throws Throwable
+	{
+		CallSiteMetrics metrics = new CallSiteMetrics(this.getClass(), "describe");
+		MethodHandle describe = this.describeHandle(2, metrics);
+
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+		assertEquals("string", (String) describe.invokeExact(this, (Object) "thingy"));
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName query = new ObjectName("yirgacheffe:type=CallSite,*");
+		Set<ObjectName> names = server.queryNames(query, null);
+		boolean found = false;
+
+		for (ObjectName name: names)
+		{
+			String nameLocation = (String) server.getAttribute(name, "Location");
+
+			if (nameLocation.equals(metrics.getLocation()) &&
+				(Long) server.getAttribute(name, "Hits") == 1L)
+			{
+				found = true;
+			}
+		}
+
+		assertTrue(found);
+	}
+
+	@Test
+	public void testMetricsDisabledByDefault()
+	{
+		assertFalse(DispatchMetrics.ENABLED);
+	}
+
+	private MethodHandle describeHandle(int depth, CallSiteMetrics metrics)
+	{
+		InlineCacheCallSite callSite =
+			new InlineCacheCallSite(
+				MethodHandles.lookup(),
+				"describe",
+				TYPE,
+				false,
+				depth,
+				metrics);
+
+		return callSite.dynamicInvoker();
+	}
+}
@@ -0,0 +1,57 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CharArrayTest
+{
+	@Test
+	public void arrayWithTwoItems()
+	{
+		Array<Character> characters = new CharArray('a', 'b');
+
+		assertEquals("[a, b]", characters.toString());
+		assertEquals("ab", characters.join(""));
+		assertEquals(2, characters.length());
+	}
+
+	@Test
+	public void testSortAndReverse()
+	{
+		Array<Character> characters = new CharArray('c', 'a', 'b');
+
+		characters.sort();
+
+		assertEquals("[a, b, c]", characters.toString());
+
+		characters.reverse();
+
+		assertEquals("[c, b, a]", characters.toString());
+	}
+
+	@Test
+	public void testIndexOf()
+	{
+		Array<Character> characters = new CharArray('a', 'b');
+
+		assertEquals(1, characters.indexOf('b'));
+		assertEquals(-1, characters.indexOf('c'));
+		assertTrue(characters.contains('a'));
+		assertFalse(characters.contains("a"));
+	}
+
+	@Test
+	public void testConcatAndEquals()
+	{
+		Array<Character> characters = new CharArray('a');
+
+		Array<Character> concatenated = characters.concat(new CharArray('b'));
+
+		assertTrue(concatenated instanceof CharArray);
+		assertEquals(new Array<>('a', 'b'), concatenated);
+		assertEquals(new Array<>('a', 'b').hashCode(), concatenated.hashCode());
+	}
+}
@@ -0,0 +1,246 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class DirectNumArrayTest
+{
+	@Test
+	public void arrayWithTwoItems()
+	{
+		Array<Double> numbers = new DirectNumArray(1.0, 2.0);
+
+		assertEquals("[1.0, 2.0]", numbers.toString());
+		assertEquals(2, numbers.length());
+		assertEquals(2.0, numbers.get(1), 0.0);
+		assertEquals(new Array<>(1.0, 2.0), numbers);
+	}
+
+	@Test
+	public void testPushShiftAndSplice()
+	{
+		Array<Double> numbers = new DirectNumArray();
+
+		for (int i = 0; i < 100; i++)
+		{
+			numbers.push((double) i);
+		}
+
+		numbers.unshift(-1.0);
+
+		assertEquals(-1.0, numbers.shift(), 0.0);
+		assertEquals(99.0, numbers.pop(), 0.0);
+
+		Array<Double> deleted = numbers.splice(1, 97, 5.0);
+
+		assertTrue(deleted instanceof DirectNumArray);
+		assertEquals(97, deleted.length());
+		assertEquals(97.0, deleted.get(96), 0.0);
+		assertEquals("[0.0, 5.0, 98.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSortAndReverse()
+	{
+		Array<Double> numbers = new DirectNumArray(
+			3.0, Double.NaN, 1.0, 0.0, -0.0, 2.0, -1.0, 1.0);
+
+		numbers.sort();
+
+		assertEquals(
+			"[-1.0, -0.0, 0.0, 1.0, 1.0, 2.0, 3.0, NaN]",
+			numbers.toString());
+
+		numbers.reverse();
+
+		assertEquals(
+			"[NaN, 3.0, 2.0, 1.0, 1.0, 0.0, -0.0, -1.0]",
+			numbers.toString());
+	}
+
+	@Test
+	public void testSortManyItems()
+	{
+		Array<Double> numbers = new DirectNumArray();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			numbers.push((double) ((i * 7919) % 1000));
+		}
+
+		numbers.shift();
+		numbers.sort();
+
+		for (int i = 0; i < 999; i++)
+		{
+			assertEquals(i + 1, numbers.get(i), 0.0);
+		}
+	}
+
+	@Test
+	public void testSliceAndConcat()
+	{
+		Array<Double> numbers = new DirectNumArray(1.0, 2.0, 3.0);
+		Array<Double> slice = numbers.slice(1);
+
+		slice.set(0, 4.0);
+
+		assertTrue(slice instanceof DirectNumArray);
+		assertEquals("[4.0, 3.0]", slice.toString());
+		assertEquals("[1.0, 2.0, 3.0]", numbers.toString());
+		assertEquals(
+			"[1.0, 2.0, 3.0, 4.0, 3.0]",
+			numbers.concat(slice).toString());
+		assertEquals(1, numbers.indexOf(2.0));
+		assertFalse(numbers.contains(4.0));
+	}
+
+	@Test
+	public void testMapFile() throws IOException
+	{
+		File file = this.writeNumbers(1.0, 2.0, 3.0);
+
+		try
+		{
+			Array<Double> numbers = new DirectNumArray(file.getPath());
+
+			assertEquals("[1.0, 2.0, 3.0]", numbers.toString());
+
+			numbers.set(1, 5.0);
+
+			assertEquals(5.0, this.readNumbers(file)[1], 0.0);
+
+			numbers.push(4.0);
+
+			assertEquals("[1.0, 5.0, 3.0, 4.0]", numbers.toString());
+			assertEquals(3, this.readNumbers(file).length);
+		}
+		finally
+		{
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void testWriteMappedFileAfterSlice() throws IOException
+	{
+		File file = this.writeNumbers(1.0, 2.0, 3.0);
+
+		try
+		{
+			Array<Double> numbers = new DirectNumArray(file.getPath());
+			Array<Double> slice = numbers.slice(1);
+			Array<Double> snapshot = numbers.snapshot();
+
+			numbers.set(1, 5.0);
+			slice.set(1, 6.0);
+
+			assertEquals(5.0, this.readNumbers(file)[1], 0.0);
+			assertEquals(3.0, this.readNumbers(file)[2], 0.0);
+			assertEquals("[2.0, 6.0]", slice.toString());
+			assertEquals("[1.0, 2.0, 3.0]", snapshot.toString());
+		}
+		finally
+		{
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void testSetBeyondDirectCapacity()
+	{
+		Array<Double> numbers = new DirectNumArray();
+		Exception exception = null;
+
+		try
+		{
+			numbers.set(1 << 28, 1.0);
+		}
+		catch (IllegalArgumentException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals(0, numbers.length());
+	}
+
+	@Test
+	public void testLoadFile() throws IOException
+	{
+		File file = this.writeNumbers(2.0, 3.0);
+
+		try
+		{
+			DirectNumArray numbers = new DirectNumArray(1.0);
+
+			numbers.load(file.getPath());
+
+			assertEquals("[1.0, 2.0, 3.0]", numbers.toString());
+		}
+		finally
+		{
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void testMapMissingFile()
+	{
+		Exception exception = null;
+
+		try
+		{
+			new DirectNumArray("/no/such/file");
+		}
+		catch (IOException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+
+	private File writeNumbers(double... numbers) throws IOException
+	{
+		File file = File.createTempFile("numbers", ".bin");
+
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file)))
+		{
+			for (double number: numbers)
+			{
+				out.writeDouble(number);
+			}
+
+			out.writeByte(0);
+		}
+
+		return file;
+	}
+
+	private double[] readNumbers(File file) throws IOException
+	{
+		double[] numbers = new double[(int) (file.length() / Double.BYTES)];
+
+		try (DataInputStream in = new DataInputStream(new FileInputStream(file)))
+		{
+			for (int i = 0; i < numbers.length; i++)
+			{
+				numbers[i] = in.readDouble();
+			}
+		}
+
+		return numbers;
+	}
+}
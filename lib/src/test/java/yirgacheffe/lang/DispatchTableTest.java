@@ -0,0 +1,64 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DispatchTableTest
+{
+	@Test
+	public void testSameArgumentClassesGiveSameNode()
+	{
+		DispatchTable table = new DispatchTable();
+
+		DispatchNode first = table.get("method", false, new Object[] {"", 1.0});
+		DispatchNode second = table.get("method", false, new Object[] {"thingy", 2.0});
+
+		assertSame(first, second);
+	}
+
+	@Test
+	public void testDifferentArgumentClassesGiveDifferentNodes()
+	{
+		DispatchTable table = new DispatchTable();
+
+		DispatchNode first = table.get("method", false, new Object[] {"", 1.0});
+		DispatchNode second = table.get("method", false, new Object[] {1.0, ""});
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testPrivacyGivesDifferentNodes()
+	{
+		DispatchTable table = new DispatchTable();
+
+		DispatchNode first = table.get("method", false, new Object[] {""});
+		DispatchNode second = table.get("method", true, new Object[] {""});
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testMethodNameGivesDifferentNodes()
+	{
+		DispatchTable table = new DispatchTable();
+
+		DispatchNode first = table.get("method", false, new Object[0]);
+		DispatchNode second = table.get("other", false, new Object[0]);
+
+		assertNotSame(first, second);
+		assertNull(first.getMethodHandle());
+	}
+
+	@Test
+	public void testTablesAreHeldPerReceiverClass()
+	{
+		DispatchTables tables = new DispatchTables();
+
+		assertSame(tables.get(String.class), tables.get(String.class));
+		assertNotSame(tables.get(String.class), tables.get(Object.class));
+	}
+}
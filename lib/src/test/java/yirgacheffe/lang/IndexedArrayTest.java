@@ -0,0 +1,105 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedArrayTest
+{
+	@Test
+	public void testContainsInitialItems()
+	{
+		Array<String> strings = new IndexedArray<>("thingy", "sumpt", "thingy");
+
+		assertTrue(strings.contains("thingy"));
+		assertTrue(strings.contains("sumpt"));
+		assertFalse(strings.contains("blah"));
+		assertEquals(1, strings.indexOf("sumpt"));
+		assertEquals(-1, strings.indexOf("blah"));
+		assertEquals("[thingy, sumpt, thingy]", strings.toString());
+	}
+
+	@Test
+	public void testPushAndPop()
+	{
+		Array<String> strings = new IndexedArray<>();
+
+		strings.push("thingy");
+		strings.push(new Array<>("sumpt", "blah"));
+
+		assertTrue(strings.contains("blah"));
+		assertEquals("blah", strings.pop());
+		assertFalse(strings.contains("blah"));
+		assertTrue(strings.contains("sumpt"));
+	}
+
+	@Test
+	public void testShiftAndUnshift()
+	{
+		Array<String> strings = new IndexedArray<>(new Array<>("thingy"));
+
+		strings.unshift("sumpt", "thingy");
+
+		assertEquals(1, strings.indexOf("thingy"));
+		assertEquals("sumpt", strings.shift());
+		assertFalse(strings.contains("sumpt"));
+		assertEquals("thingy", strings.shift());
+		assertTrue(strings.contains("thingy"));
+		assertEquals(0, strings.indexOf("thingy"));
+	}
+
+	@Test
+	public void testSet()
+	{
+		Array<String> strings = new IndexedArray<>(Arrays.asList("thingy", "sumpt"));
+
+		strings.set(0, "blah");
+		strings.set(3, "thingy");
+
+		assertEquals("[blah, sumpt, null, thingy]", strings.toString());
+		assertTrue(strings.contains("blah"));
+		assertTrue(strings.contains(null));
+		assertEquals(2, strings.indexOf(null));
+		assertEquals(3, strings.indexOf("thingy"));
+
+		strings.set(2, "sumpt");
+
+		assertFalse(strings.contains(null));
+	}
+
+	@Test
+	public void testSplice()
+	{
+		Array<Integer> numbers = new IndexedArray<>(1, 2, 3, 4);
+
+		Array<Integer> deleted = numbers.splice(1, 2, 5);
+
+		assertEquals("[2, 3]", deleted.toString());
+		assertFalse(numbers.contains(2));
+		assertFalse(numbers.contains(3));
+		assertTrue(numbers.contains(5));
+		assertEquals(2, numbers.indexOf(4));
+
+		numbers.splice(-1);
+
+		assertFalse(numbers.contains(4));
+		assertEquals("[1, 5]", numbers.toString());
+	}
+
+	@Test
+	public void testSortKeepsIndex()
+	{
+		Array<Integer> numbers = new IndexedArray<>(3, 1, 2);
+
+		numbers.sort();
+		numbers.reverse();
+
+		assertEquals("[3, 2, 1]", numbers.toString());
+		assertTrue(numbers.contains(1));
+		assertEquals(2, numbers.indexOf(1));
+	}
+}
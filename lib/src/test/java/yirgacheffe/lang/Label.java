@@ -0,0 +1,9 @@
+package yirgacheffe.lang;
+
+public class Label implements Comparable<String>
+{
+	public int compareTo(String other)
+	{
+		return 0;
+	}
+}
@@ -0,0 +1,598 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NumArrayTest
+{
+	@Test
+	public void emptyArray()
+	{
+		Array<Double> numbers = new NumArray();
+
+		assertEquals("[]", numbers.toString());
+		assertEquals(0, numbers.length());
+	}
+
+	@Test
+	public void arrayWithTwoItems()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+
+		assertEquals("[1.0, 2.0]", numbers.toString());
+		assertEquals("1.0,2.0", numbers.join(","));
+		assertEquals(2, numbers.length());
+	}
+
+	@Test
+	public void arrayFromArrayAndCollection()
+	{
+		Array<Double> array = new Array<>(1.0, 2.0);
+		Array<Double> fromArray = new NumArray(array);
+		Array<Double> fromCollection = new NumArray(Arrays.asList(1.0, 2.0));
+
+		assertEquals("[1.0, 2.0]", fromArray.toString());
+		assertEquals("[1.0, 2.0]", fromCollection.toString());
+	}
+
+	@Test
+	public void testGetFromEmptyArray()
+	{
+		Array<Double> numbers = new NumArray();
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.get(0);
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("0", exception.getMessage());
+	}
+
+	@Test
+	public void testSetThirtyThirdItem()
+	{
+		Array<Double> numbers = new NumArray();
+
+		numbers.set(32, 1.0);
+
+		assertEquals(33, numbers.length());
+		assertEquals(0.0, numbers.get(0), 0.0);
+		assertEquals(1.0, numbers.get(32), 0.0);
+	}
+
+	@Test
+	public void testRejectNull()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+		Array<Double> items = new Array<>(3.0, null);
+		int exceptions = 0;
+
+		try
+		{
+			numbers.set(3, null);
+		}
+		catch (NullPointerException e)
+		{
+			exceptions++;
+		}
+
+		try
+		{
+			numbers.unshift(0.0, null);
+		}
+		catch (NullPointerException e)
+		{
+			exceptions++;
+		}
+
+		try
+		{
+			numbers.splice(0, 1, (Double) null);
+		}
+		catch (NullPointerException e)
+		{
+			exceptions++;
+		}
+
+		try
+		{
+			numbers.push(items);
+		}
+		catch (NullPointerException e)
+		{
+			exceptions++;
+		}
+
+		assertEquals(4, exceptions);
+		assertEquals("[1.0, 2.0]", numbers.toString());
+		assertFalse(numbers.contains(null));
+	}
+
+	@Test
+	public void testPushAndPopThousandItems()
+	{
+		Array<Double> numbers = new NumArray();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			numbers.push((double) i);
+		}
+
+		assertEquals(1000, numbers.length());
+
+		for (int i = 999; i >= 0; i--)
+		{
+			assertEquals(i, numbers.pop(), 0.0);
+		}
+
+		assertEquals(0, numbers.length());
+	}
+
+	@Test
+	public void testPopFromEmptyArray()
+	{
+		Array<Double> numbers = new NumArray();
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.pop();
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("-1", exception.getMessage());
+	}
+
+	@Test
+	public void testPushArrays()
+	{
+		Array<Double> numbers = new NumArray(1.0);
+
+		numbers.push(new NumArray(2.0, 3.0));
+		numbers.push(new Array<>(4.0));
+
+		assertEquals("[1.0, 2.0, 3.0, 4.0]", numbers.toString());
+	}
+
+	@Test
+	public void testPushNumArrayToArray()
+	{
+		Array<Double> numbers = new Array<>(1.0);
+
+		numbers.push(new NumArray(2.0, 3.0));
+
+		assertEquals("[1.0, 2.0, 3.0]", numbers.toString());
+		assertEquals("[1.0, 2.0, 3.0]", numbers.concat(new NumArray()).toString());
+		assertEquals("[1.0, 2.0, 3.0]", new Array<>(numbers).toString());
+	}
+
+	@Test
+	public void testUnshiftAndShift()
+	{
+		Array<Double> numbers = new NumArray(3.0);
+
+		numbers.unshift(1.0, 2.0);
+
+		assertEquals("[1.0, 2.0, 3.0]", numbers.toString());
+		assertEquals(1.0, numbers.shift(), 0.0);
+		assertEquals("[2.0, 3.0]", numbers.toString());
+	}
+
+	@Test
+	public void testShiftFromEmptyArray()
+	{
+		Array<Double> numbers = new NumArray();
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.shift();
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("0", exception.getMessage());
+	}
+
+	@Test
+	public void testSortAndReverse()
+	{
+		Array<Double> numbers = new NumArray(3.0, 1.0, 2.0, -1.0);
+
+		numbers.sort();
+
+		assertEquals("[-1.0, 1.0, 2.0, 3.0]", numbers.toString());
+
+		numbers.reverse();
+
+		assertEquals("[3.0, 2.0, 1.0, -1.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSpliceReplacementItems()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0, 3.0, 4.0);
+
+		Array<Double> deleted = numbers.splice(1, 2, 5.0, 6.0, 7.0);
+
+		assertTrue(deleted instanceof NumArray);
+		assertEquals("[2.0, 3.0]", deleted.toString());
+		assertEquals("[1.0, 5.0, 6.0, 7.0, 4.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSpliceAllElementsAfterNegativeIndex()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0, 3.0);
+
+		Array<Double> deleted = numbers.splice(-2);
+
+		assertEquals("[2.0, 3.0]", deleted.toString());
+		assertEquals("[1.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSpliceTooManyItemsFromArray()
+	{
+		Array<Double> numbers = new NumArray(1.0);
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.splice(0, 2);
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("1", exception.getMessage());
+		assertEquals(1, numbers.length());
+	}
+
+	@Test
+	public void testSlice()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0, 3.0);
+
+		assertEquals("[1.0, 2.0, 3.0]", numbers.slice().toString());
+		assertEquals("[2.0, 3.0]", numbers.slice(1).toString());
+		assertEquals("[2.0]", numbers.slice(-2, -1).toString());
+		assertEquals("[]", numbers.slice(2, 1).toString());
+		assertTrue(numbers.slice(1) instanceof NumArray);
+	}
+
+	@Test
+	public void testSliceStartIndexTooBig()
+	{
+		Array<Double> numbers = new NumArray(1.0);
+
+		Exception exception = null;
+
+		try
+		{
+			numbers.slice(1);
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("1", exception.getMessage());
+	}
+
+	@Test
+	public void testConcat()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+
+		Array<Double> concatenated = numbers.concat(new Array<>(3.0));
+
+		assertTrue(concatenated instanceof NumArray);
+		assertEquals("[1.0, 2.0, 3.0]", concatenated.toString());
+		assertEquals("[1.0, 2.0]", numbers.toString());
+	}
+
+	@Test
+	public void testIndexOfAndContains()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0, Double.NaN);
+
+		numbers.pop();
+
+		assertEquals(1, numbers.indexOf(2.0));
+		assertEquals(-1, numbers.indexOf(3.0));
+		assertEquals(-1, numbers.indexOf(Double.NaN));
+		assertTrue(numbers.contains(1.0));
+		assertFalse(numbers.contains("1.0"));
+	}
+
+	@Test
+	public void testStoreOtherNumbers()
+	{
+		Array numbers = new NumArray();
+
+		numbers.push(1L);
+		numbers.push(2);
+		numbers.unshift(0.5f);
+
+		assertEquals("[0.5, 1.0, 2.0]", numbers.toString());
+		assertEquals(1, numbers.indexOf(1L));
+		assertTrue(numbers.contains(2));
+	}
+
+	@Test
+	public void testIterator()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+		Iterator<Double> iterator = numbers.iterator();
+
+		numbers.set(0, 3.0);
+
+		assertTrue(iterator.hasNext());
+		assertEquals(3.0, iterator.next(), 0.0);
+		assertEquals(2.0, iterator.next(), 0.0);
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testIteratorFailsAfterModification()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+		Iterator<Double> iterator = numbers.iterator();
+
+		numbers.sort();
+
+		Exception exception = null;
+
+		try
+		{
+			iterator.next();
+		}
+		catch (ConcurrentModificationException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+
+	@Test
+	public void testSnapshot()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+		Array<Double> snapshot = numbers.snapshot();
+
+		numbers.push(3.0);
+
+		assertTrue(snapshot instanceof NumArray);
+		assertEquals("[1.0, 2.0]", snapshot.toString());
+	}
+
+	@Test
+	public void testToArray()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+
+		Object[] array = numbers.toArray();
+
+		assertEquals(2, array.length);
+		assertEquals(2.0, array[1]);
+	}
+
+	@Test
+	public void testEqualsArrayWithSameItems()
+	{
+		Array<Double> numbers = new NumArray(1.0, 2.0);
+		Array<Double> boxed = new Array<>(1.0, 2.0);
+
+		assertTrue(numbers.equals(boxed));
+		assertTrue(boxed.equals(numbers));
+		assertFalse(numbers.equals(new NumArray(1.0)));
+		assertFalse(numbers.equals(new NumArray(1.0, 3.0)));
+		assertFalse(numbers.equals("[1.0, 2.0]"));
+		assertEquals(boxed.hashCode(), numbers.hashCode());
+	}
+
+	@Test
+	public void testPushAndShiftAsQueue()
+	{
+		Array<Double> queue = new NumArray();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			queue.push((double) i);
+			queue.push((double) i);
+
+			assertEquals(i / 2, queue.shift(), 0.0);
+		}
+
+		assertEquals(1000, queue.length());
+		assertEquals(500.0, queue.get(0), 0.0);
+		assertEquals(999.0, queue.get(999), 0.0);
+		assertEquals(0, queue.indexOf(500.0));
+		assertEquals(-1, queue.indexOf(499.0));
+	}
+
+	@Test
+	public void testUnshiftManyItems()
+	{
+		Array<Double> numbers = new NumArray(1000.0);
+
+		for (int i = 999; i >= 0; i--)
+		{
+			numbers.unshift((double) i);
+		}
+
+		assertEquals(1001, numbers.length());
+
+		for (int i = 0; i <= 1000; i++)
+		{
+			assertEquals(i, numbers.get(i), 0.0);
+		}
+	}
+
+	@Test
+	public void testOperationsAfterShift()
+	{
+		Array<Double> numbers = new NumArray(9.0, 3.0, 2.0, 1.0, 4.0);
+
+		numbers.shift();
+		numbers.sort();
+
+		assertEquals("[1.0, 2.0, 3.0, 4.0]", numbers.toString());
+		assertEquals("[2.0, 3.0]", numbers.slice(1, 3).toString());
+		assertEquals(new Array<>(1.0, 2.0, 3.0, 4.0), numbers);
+		assertEquals(2.0, numbers.toArray()[1]);
+
+		Array<Double> deleted = numbers.splice(1, 2, 5.0);
+
+		assertEquals("[2.0, 3.0]", deleted.toString());
+		assertEquals("[1.0, 5.0, 4.0]", numbers.toString());
+
+		numbers.reverse();
+
+		assertEquals("[4.0, 5.0, 1.0]", numbers.toString());
+
+		Array<Double> other = new NumArray(0.0);
+
+		other.push(numbers);
+
+		assertEquals("[0.0, 4.0, 5.0, 1.0]", other.toString());
+	}
+
+	@Test
+	public void testSliceSharesItemsUntilModified()
+	{
+		Array<Double> numbers = new NumArray(4.0, 3.0, 2.0, 1.0);
+		Array<Double> slice = numbers.slice(1);
+
+		assertTrue(slice instanceof NumArray);
+		assertSame(
+			((NumArray) numbers).storage(),
+			((NumArray) slice).storage());
+
+		slice.sort();
+		numbers.reverse();
+
+		assertEquals("[1.0, 2.0, 3.0]", slice.toString());
+		assertEquals("[1.0, 2.0, 3.0, 4.0]", numbers.toString());
+
+		Array<Double> other = numbers.slice(2, 4);
+
+		numbers.set(3, 0.0);
+		other.shift();
+
+		assertEquals("[4.0]", other.toString());
+		assertEquals("[1.0, 2.0, 3.0, 0.0]", numbers.toString());
+	}
+
+	@Test
+	public void testTrimToSize()
+	{
+		NumArray numbers = new NumArray();
+
+		assertEquals(0, numbers.capacity());
+
+		numbers.push(1.0);
+		numbers.unshift(0.0);
+
+		assertEquals("[0.0, 1.0]", numbers.toString());
+
+		numbers.trimToSize();
+
+		assertEquals(2, numbers.capacity());
+		assertEquals("[0.0, 1.0]", numbers.toString());
+
+		Array<Double> slice = numbers.slice(1);
+
+		slice.trimToSize();
+		numbers.push(2.0);
+
+		assertEquals("[1.0]", slice.toString());
+		assertEquals("[0.0, 1.0, 2.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSortWithOrdering()
+	{
+		Array<Double> numbers = new NumArray(1.0, 3.0, 2.0, Double.NaN);
+
+		numbers.pop();
+		numbers.sort(new Ordering<Double>()
+		{
+			@Override
+			public double compare(Double first, Double second)
+			{
+				return second - first;
+			}
+		});
+
+		assertTrue(numbers instanceof NumArray);
+		assertEquals("[3.0, 2.0, 1.0]", numbers.toString());
+	}
+
+	@Test
+	public void testSortLargeArray()
+	{
+		Array<Double> numbers = new NumArray();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			numbers.push((double) ((i * 7919) % 100000));
+		}
+
+		numbers.shift();
+		numbers.sort();
+
+		assertEquals(99999, numbers.length());
+		assertEquals(1.0, numbers.get(0), 0.0);
+		assertEquals(99999.0, numbers.get(99998), 0.0);
+	}
+
+	@Test
+	public void testPushFillsCapacity()
+	{
+		NumArray numbers = new NumArray();
+
+		numbers.push(0.0);
+
+		int capacity = numbers.capacity();
+
+		for (int i = 1; i < capacity; i++)
+		{
+			numbers.push((double) i);
+		}
+
+		assertEquals(capacity, numbers.length());
+		assertEquals(capacity, numbers.capacity());
+	}
+}
@@ -0,0 +1,83 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ObjectSignaturesTest
+{
+	@Test
+	public void testSignatureIsStoredByIdentity()
+	{
+		ObjectSignatures signatures = new ObjectSignatures();
+		String first = new String("thingy");
+		String second = new String("thingy");
+
+		signatures.put(first, "java.lang.String,java.lang.Double");
+
+		assertArrayEquals(
+			new Class<?>[] {String.class, Double.class},
+			signatures.get(first));
+
+		assertNull(signatures.get(second));
+	}
+
+	@Test
+	public void testFirstSignatureIsKept()
+	{
+		ObjectSignatures signatures = new ObjectSignatures();
+		Object object = new Object();
+
+		signatures.put(object, "java.lang.String");
+		signatures.put(object, "java.lang.Double");
+
+		assertArrayEquals(new Class<?>[] {String.class}, signatures.get(object));
+		assertEquals(1, signatures.size());
+	}
+
+	@Test
+	public void testParsedSignaturesAreShared()
+	{
+		ObjectSignatures signatures = new ObjectSignatures();
+		Object first = new Object();
+		Object second = new Object();
+
+		signatures.put(first, "java.lang.String");
+		signatures.put(second, "java.lang.String");
+
+		assertSame(signatures.get(first), signatures.get(second));
+	}
+
+	@Test
+	public void testUnreachableObjectsAreRemoved() throws Exception
+	{
+		ObjectSignatures signatures = new ObjectSignatures();
+		Object object = new Object();
+		WeakReference<Object> reference = new WeakReference<>(object);
+
+		signatures.put(object, "java.lang.String");
+
+		assertEquals(1, signatures.size());
+
+		object = null;
+
+		for (int i = 0; i < 100 && reference.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		for (int i = 0; i < 100 && signatures.size() > 0; i++)
+		{
+			Thread.sleep(10);
+		}
+
+		assertNull(reference.get());
+		assertEquals(0, signatures.size());
+	}
+}
@@ -0,0 +1,5 @@
+package yirgacheffe.lang;
+
+public interface Pairing<T> extends Combinable<T>
+{
+}
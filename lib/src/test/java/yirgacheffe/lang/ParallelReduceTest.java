@@ -0,0 +1,76 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class ParallelReduceTest
+{
+	private Array<Range> createRanges(int length)
+	{
+		Array<Range> ranges = new Array<>();
+
+		for (int i = 0; i < length; i++)
+		{
+			ranges.push(new Range(i, i, true));
+		}
+
+		return ranges;
+	}
+
+	@Test
+	public void testReduceBelowThreshold()
+	{
+		Array<Range> ranges = this.createRanges(10);
+
+		assertEquals("0..9", new ParallelReduce<>(ranges).to().toString());
+	}
+
+	@Test
+	public void testReduceAboveThreshold()
+	{
+		Array<Range> ranges = this.createRanges(100000);
+
+		Range sequential = new Reduce<>(ranges).to();
+		Range parallel = new ParallelReduce<>(ranges, 100).to();
+
+		assertEquals("0..99999", sequential.toString());
+		assertEquals(sequential.toString(), parallel.toString());
+	}
+
+	@Test
+	public void testReduceWithSmallestThreshold()
+	{
+		Array<Range> ranges = this.createRanges(33);
+
+		assertEquals("0..32", new ParallelReduce<>(ranges, 0).to().toString());
+	}
+
+	@Test
+	public void testReduceSingleItem()
+	{
+		Array<Range> ranges = this.createRanges(1);
+
+		assertEquals("0..0", new ParallelReduce<>(ranges, 0).to().toString());
+	}
+
+	@Test
+	public void testReduceEmptyArray()
+	{
+		Array<Range> ranges = new Array<>();
+
+		Exception exception = null;
+
+		try
+		{
+			new ParallelReduce<>(ranges).to();
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+}
@@ -0,0 +1,39 @@
+package yirgacheffe.lang;
+
+public class Range implements Combinable<Range>
+{
+	private int first;
+
+	private int last;
+
+	private boolean ordered;
+
+	public Range(int first, int last, boolean ordered)
+	{
+		this.first = first;
+		this.last = last;
+		this.ordered = ordered;
+	}
+
+	public Range combineWith(Range other)
+	{
+		if (other.first > other.last)
+		{
+			return this;
+		}
+
+		if (this.first > this.last)
+		{
+			return other;
+		}
+
+		boolean ordered = this.ordered && other.ordered && other.last + 1 == this.first;
+
+		return new Range(other.first, this.last, ordered);
+	}
+
+	public String toString()
+	{
+		return this.first + ".." + this.last + (this.ordered ? "" : " unordered");
+	}
+}
@@ -0,0 +1,5 @@
+package yirgacheffe.lang;
+
+public interface RangeCombinable extends Combinable<Range>
+{
+}
@@ -0,0 +1,9 @@
+package yirgacheffe.lang;
+
+public class RangePairing implements Pairing<Range>
+{
+	public Range combineWith(Range other)
+	{
+		return other;
+	}
+}
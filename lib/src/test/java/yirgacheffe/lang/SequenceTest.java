@@ -0,0 +1,198 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class SequenceTest
+{
+	private Mapping<Integer, Integer> square = new Mapping<Integer, Integer>()
+	{
+		public Integer map(Integer item)
+		{
+			return item * item;
+		}
+	};
+
+	private Filter<Integer> even = new Filter<Integer>()
+	{
+		public boolean accept(Integer item)
+		{
+			return item % 2 == 0;
+		}
+	};
+
+	private Filter<Integer> none = new Filter<Integer>()
+	{
+		public boolean accept(Integer item)
+		{
+			return false;
+		}
+	};
+
+	private Mapping<Integer, Range> range = new Mapping<Integer, Range>()
+	{
+		public Range map(Integer item)
+		{
+			return new Range(item, item, true);
+		}
+	};
+
+	private Array<Integer> createNumbers(int length)
+	{
+		Array<Integer> numbers = new Array<>();
+
+		for (int i = 0; i < length; i++)
+		{
+			numbers.push(i);
+		}
+
+		return numbers;
+	}
+
+	@Test
+	public void testMapAndFilter()
+	{
+		Sequence<Integer> sequence =
+			new Sequence<>(this.createNumbers(10)).map(this.square).filter(this.even);
+
+		assertEquals("[0, 4, 16, 36, 64]", sequence.toArray().toString());
+	}
+
+	@Test
+	public void testFilterThenTake()
+	{
+		Array<Integer> numbers = this.createNumbers(10);
+
+		Sequence<Integer> sequence = new Sequence<>(numbers).filter(this.even).take(3);
+
+		assertEquals("[0, 2, 4]", sequence.toArray().toString());
+		assertEquals("[0, 2, 4]", sequence.toArray().toString());
+	}
+
+	@Test
+	public void testTakeStopsReadingSource()
+	{
+		Array<Integer> numbers = this.createNumbers(10);
+		final Array<Integer> read = new Array<>();
+
+		Mapping<Integer, Integer> record = new Mapping<Integer, Integer>()
+		{
+			public Integer map(Integer item)
+			{
+				read.push(item);
+
+				return item;
+			}
+		};
+
+		Sequence<Integer> sequence = new Sequence<>(numbers).map(record).take(2);
+
+		assertEquals("[0, 1]", sequence.toArray().toString());
+		assertEquals("[0, 1]", read.toString());
+	}
+
+	@Test
+	public void testTakeNothing()
+	{
+		Sequence<Integer> sequence = new Sequence<>(this.createNumbers(10)).take(0);
+
+		assertEquals(0, sequence.toArray().length());
+	}
+
+	@Test
+	public void testTakeMoreThanAvailable()
+	{
+		Sequence<Integer> sequence = new Sequence<>(this.createNumbers(3)).take(5);
+
+		assertEquals("[0, 1, 2]", sequence.toArray().toString());
+	}
+
+	@Test
+	public void testSourceIsReadLazily()
+	{
+		Array<Integer> numbers = this.createNumbers(2);
+		Sequence<Integer> sequence = new Sequence<>(numbers).map(this.square);
+
+		numbers.push(2);
+
+		assertEquals("[0, 1, 4]", sequence.toArray().toString());
+	}
+
+	@Test
+	public void testReduceSequence()
+	{
+		Array<Integer> numbers = this.createNumbers(100000);
+		Sequence<Range> ranges = new Sequence<>(numbers).map(this.range);
+
+		assertEquals("0..99999", new Reduce<>(ranges).to().toString());
+		assertEquals("0..99999", new ParallelReduce<>(ranges, 100).to().toString());
+		assertEquals("0..99999", new ParallelReduce<>(ranges).to().toString());
+	}
+
+	@Test
+	public void testParallelReduceFilteredSequence()
+	{
+		Array<Integer> numbers = this.createNumbers(1000);
+		Sequence<Range> ranges =
+			new Sequence<>(numbers).filter(this.even).map(this.range);
+
+		assertEquals("0..998 unordered", new Reduce<>(ranges).to().toString());
+		assertEquals("0..998 unordered", new ParallelReduce<>(ranges, 1).to().toString());
+	}
+
+	@Test
+	public void testParallelReduceWithTakeIsSequential()
+	{
+		Array<Integer> numbers = this.createNumbers(1000);
+		Sequence<Range> ranges = new Sequence<>(numbers).map(this.range).take(500);
+
+		assertEquals("0..499", new ParallelReduce<>(ranges, 10).to().toString());
+	}
+
+	@Test
+	public void testReduceEmptySequence()
+	{
+		Array<Integer> numbers = this.createNumbers(10000);
+		Sequence<Range> ranges = new Sequence<>(numbers).map(this.range).take(0);
+		Sequence<Range> filtered =
+			new Sequence<>(numbers).filter(this.none).map(this.range);
+
+		Exception sequential = null;
+		Exception parallel = null;
+
+		try
+		{
+			new ParallelReduce<>(ranges, 10).to();
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			sequential = e;
+		}
+
+		try
+		{
+			new ParallelReduce<>(filtered, 10).to();
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			parallel = e;
+		}
+
+		assertNotNull(sequential);
+		assertNotNull(parallel);
+		assertEquals("0", parallel.getMessage());
+	}
+
+	@Test
+	public void testFoldSequence()
+	{
+		Array<Integer> numbers = this.createNumbers(10);
+		Sequence<Range> ranges = new Sequence<>(numbers).map(this.range).take(5);
+
+		Range folded = new Fold<Range, Range>(ranges).with(new Range(0, -1, true));
+
+		assertEquals("0..4", folded.toString());
+	}
+}
@@ -0,0 +1,14 @@
+package yirgacheffe.lang;
+
+public class Unloadable
+{
+	public String describe(Object object)
+	{
+		return "object";
+	}
+
+	public String describe(String string)
+	{
+		return "unloadable";
+	}
+}
@@ -0,0 +1,236 @@
+package yirgacheffe.lang;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class VectorTest
+{
+	@Test
+	public void emptyVector()
+	{
+		Vector<String> vector = new Vector<>();
+
+		assertEquals(0, vector.length());
+		assertEquals("[]", vector.toString());
+		assertFalse(vector.iterator().hasNext());
+	}
+
+	@Test
+	public void vectorWithTwoItems()
+	{
+		Vector<String> vector = new Vector<>("thingy", "sumpt");
+
+		assertEquals(2, vector.length());
+		assertEquals("thingy", vector.get(0));
+		assertEquals("sumpt", vector.get(1));
+		assertEquals("[thingy, sumpt]", vector.toString());
+	}
+
+	@Test
+	public void testVectorOfStringArrayHoldsOtherItems()
+	{
+		String[] strings = new String[40];
+
+		for (int i = 0; i < strings.length; i++)
+		{
+			strings[i] = Integer.toString(i);
+		}
+
+		Vector<Object> vector = new Vector<Object>((Object[]) strings);
+		Vector<Object> pushed = vector.push(40);
+		Vector<Object> set = vector.set(35, 35).set(3, 3);
+
+		assertEquals(41, pushed.length());
+		assertEquals(40, pushed.get(40));
+		assertEquals(35, set.get(35));
+		assertEquals(3, set.get(3));
+		assertEquals("35", vector.get(35));
+	}
+
+	@Test
+	public void testPushLeavesOriginalUnchanged()
+	{
+		Vector<Integer> empty = new Vector<>();
+		Vector<Integer> vector = empty.push(1);
+		Vector<Integer> pushed = vector.push(2);
+
+		assertEquals("[]", empty.toString());
+		assertEquals("[1]", vector.toString());
+		assertEquals("[1, 2]", pushed.toString());
+	}
+
+	@Test
+	public void testPushManyItems()
+	{
+		Vector<Integer> vector = new Vector<>();
+
+		for (int i = 0; i < 40000; i++)
+		{
+			vector = vector.push(i);
+		}
+
+		assertEquals(40000, vector.length());
+
+		for (int i = 0; i < 40000; i++)
+		{
+			assertEquals(i, (int) vector.get(i));
+		}
+	}
+
+	@Test
+	public void testSetLeavesOriginalUnchanged()
+	{
+		Vector<Integer> vector = new Vector<>();
+
+		for (int i = 0; i < 100; i++)
+		{
+			vector = vector.push(i);
+		}
+
+		Vector<Integer> inTree = vector.set(5, -5);
+		Vector<Integer> inTail = vector.set(99, -99);
+
+		assertEquals(5, (int) vector.get(5));
+		assertEquals(99, (int) vector.get(99));
+		assertEquals(-5, (int) inTree.get(5));
+		assertEquals(99, (int) inTree.get(99));
+		assertEquals(5, (int) inTail.get(5));
+		assertEquals(-99, (int) inTail.get(99));
+	}
+
+	@Test
+	public void testSetAtLengthAppends()
+	{
+		Vector<String> vector = new Vector<>("a");
+
+		assertEquals("[a, b]", vector.set(1, "b").toString());
+	}
+
+	@Test
+	public void testSetPastEnd()
+	{
+		Vector<String> vector = new Vector<>("a");
+
+		Exception exception = null;
+
+		try
+		{
+			vector.set(2, "c");
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("2", exception.getMessage());
+	}
+
+	@Test
+	public void testGetOutOfBounds()
+	{
+		Vector<String> vector = new Vector<>("a");
+
+		Exception exception = null;
+
+		try
+		{
+			vector.get(-1);
+		}
+		catch (ArrayIndexOutOfBoundsException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+		assertEquals("-1", exception.getMessage());
+	}
+
+	@Test
+	public void testConcat()
+	{
+		Integer[] items = new Integer[1500];
+
+		for (int i = 0; i < items.length; i++)
+		{
+			items[i] = i;
+		}
+
+		Vector<Integer> first = new Vector<>(1, 2, 3);
+		Vector<Integer> second = new Vector<>(items);
+		Vector<Integer> concatenated = first.concat(second).concat(first);
+
+		assertEquals(1506, concatenated.length());
+		assertEquals(3, first.length());
+		assertEquals(1, (int) concatenated.get(0));
+		assertEquals(0, (int) concatenated.get(3));
+		assertEquals(1499, (int) concatenated.get(1502));
+		assertEquals(3, (int) concatenated.get(1505));
+	}
+
+	@Test
+	public void testFromArray()
+	{
+		Array<String> array = new Array<>("a", "b", "c");
+
+		array.shift();
+
+		Vector<String> vector = new Vector<>(array);
+
+		assertEquals("[b, c]", vector.toString());
+		assertEquals(new Array<>("b", "c"), vector.toArray());
+	}
+
+	@Test
+	public void testIterator()
+	{
+		Vector<Integer> vector = new Vector<>();
+
+		for (int i = 0; i < 70; i++)
+		{
+			vector = vector.push(i);
+		}
+
+		Iterator<Integer> iterator = vector.iterator();
+
+		for (int i = 0; i < 70; i++)
+		{
+			assertTrue(iterator.hasNext());
+			assertEquals(i, (int) iterator.next());
+		}
+
+		assertFalse(iterator.hasNext());
+
+		Exception exception = null;
+
+		try
+		{
+			iterator.next();
+		}
+		catch (NoSuchElementException e)
+		{
+			exception = e;
+		}
+
+		assertNotNull(exception);
+	}
+
+	@Test
+	public void testEquals()
+	{
+		Vector<String> vector = new Vector<>("a", "b");
+
+		assertTrue(vector.equals(new Vector<>().push("a").push("b")));
+		assertFalse(vector.equals(new Vector<>("a", "c")));
+		assertFalse(vector.equals(new Vector<>("a")));
+		assertFalse(vector.equals(new Array<>("a", "b")));
+		assertEquals(new Vector<>("b", "a").hashCode(), vector.hashCode());
+	}
+}